@@ -0,0 +1,62 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.ImageIcon;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Animation hits and misses of the previous cache, a GZIP-compressed serialized ImageIcon per entry
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationBaselineBenchmark {
+
+    // Parameters
+    @Param({"8", "32"})
+    public int frames;
+
+    // Variables
+    private String filePath;
+    private byte[] cached;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        filePath = Samples.write(Samples.animation(frames, 320, 240), "gif").toAbsolutePath().toString();
+        cached = deflate(new ImageIcon(filePath));
+    }
+
+    // Helper Methods, the same steps ZIP-Tools' GZIP.deflateObject and inflateObject took
+    private static byte[] deflate(ImageIcon icon) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+            output.writeObject(icon);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ImageIcon inflate(byte[] data) throws IOException, ClassNotFoundException {
+        try (var input = new ObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            return (ImageIcon) input.readObject();
+        }
+    }
+
+    @Benchmark
+    public ImageIcon hit() throws IOException, ClassNotFoundException {
+        return inflate(cached);
+    }
+
+    @Benchmark
+    public byte[] miss() throws IOException {
+        return deflate(new ImageIcon(filePath));
+    }
+}
@@ -0,0 +1,47 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.core.AnimationLoader;
+import de.MCmoderSD.imageloader.enums.CacheMode;
+import de.MCmoderSD.imageloader.objects.Animation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Animation hits and misses in both cache modes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationBenchmark {
+
+    // Parameters
+    @Param({"DECODED", "COMPRESSED"})
+    public CacheMode cacheMode;
+
+    @Param({"8", "32"})
+    public int frames;
+
+    // Variables
+    private AnimationLoader animationLoader;
+    private String filePath;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        animationLoader = AnimationLoader.getInstance();
+        animationLoader.setCacheMode(cacheMode);
+        filePath = Samples.write(Samples.animation(frames, 320, 240), "gif").toAbsolutePath().toString();
+        animationLoader.loadFile(filePath);
+    }
+
+    @Benchmark
+    public Animation hit() {
+        return animationLoader.loadFile(filePath);
+    }
+
+    @Benchmark
+    public Animation miss() {
+        return animationLoader.reloadFile(filePath);
+    }
+}
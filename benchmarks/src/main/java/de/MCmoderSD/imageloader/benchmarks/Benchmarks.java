@@ -0,0 +1,22 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Benchmarks {
+
+    // Constants
+    private static final String DEFAULT_RESULT = "jmh-result.json";
+
+    // Runs JMH with JSON results by default, so two commits can be compared
+    public static void main(String[] args) throws Exception {
+
+        // Keep explicit result options
+        var arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-rf")) arguments.addAll(List.of("-rf", "json"));
+        if (!arguments.contains("-rff")) arguments.addAll(List.of("-rff", DEFAULT_RESULT));
+
+        // Run JMH
+        org.openjdk.jmh.Main.main(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,87 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.benchmarks.Samples.Size;
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.objects.ImageInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+// Cache hit paths of every source type and of the derived entries
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    // Constants
+    private static final String RESOURCE = "/samples/sample.png";
+    private static final Rectangle REGION = new Rectangle(8, 8, 32, 32);
+
+    // Parameters, the data URI size decides how long the digest of a hit takes
+    @Param({"SMALL", "MEDIUM"})
+    public Size size;
+
+    // Variables
+    private ImageLoader imageLoader;
+    private String filePath;
+    private String dataURI;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        // Samples
+        imageLoader = ImageLoader.getInstance();
+        var data = Samples.encode(size, Extension.PNG);
+        filePath = Samples.write(data, "png").toAbsolutePath().toString();
+        dataURI = Samples.dataURI(data, Extension.PNG);
+
+        // Fill the cache
+        imageLoader.loadResource(RESOURCE);
+        imageLoader.loadFile(filePath);
+        imageLoader.loadBase64(dataURI);
+        imageLoader.probe(filePath);
+        imageLoader.loadThumbnail(filePath, 32);
+        imageLoader.loadRegion(filePath, REGION);
+    }
+
+    @Benchmark
+    public BufferedImage resource() {
+        return imageLoader.loadResource(RESOURCE);
+    }
+
+    @Benchmark
+    public BufferedImage file() {
+        return imageLoader.loadFile(filePath);
+    }
+
+    @Benchmark
+    public BufferedImage base64() {
+        return imageLoader.loadBase64(dataURI);
+    }
+
+    @Benchmark
+    public BufferedImage async() {
+        return imageLoader.loadFileAsync(filePath).join();
+    }
+
+    @Benchmark
+    public ImageInfo probe() {
+        return imageLoader.probe(filePath);
+    }
+
+    @Benchmark
+    public BufferedImage thumbnail() {
+        return imageLoader.loadThumbnail(filePath, 32);
+    }
+
+    @Benchmark
+    public BufferedImage region() {
+        return imageLoader.loadRegion(filePath, REGION);
+    }
+}
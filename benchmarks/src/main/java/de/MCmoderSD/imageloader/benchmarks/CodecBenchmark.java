@@ -0,0 +1,55 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.tools.CodecPool;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import java.util.concurrent.TimeUnit;
+
+// Pooled codec instances against a registry lookup for every call
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    // Parameters
+    @Param({"JPEG", "PNG", "BMP", "TIFF", "GIF", "WEBP"})
+    public Extension extension;
+
+    @Benchmark
+    public ImageReader pooledReader() {
+        var reader = CodecPool.getReader(extension);
+        CodecPool.release(reader);
+        return reader;
+    }
+
+    @Benchmark
+    public ImageReader unpooledReader() {
+        var reader = ImageIO.getImageReadersByFormatName(extension.getExtension()).next();
+        reader.dispose();
+        return reader;
+    }
+
+    @Benchmark
+    public ImageWriter pooledWriter() {
+        if (extension == Extension.WEBP) return null;
+        var writer = CodecPool.getWriter(extension);
+        CodecPool.release(writer);
+        return writer;
+    }
+
+    @Benchmark
+    public ImageWriter unpooledWriter() {
+        var writers = ImageIO.getImageWritersByFormatName(extension.getExtension());
+        if (!writers.hasNext()) return null;
+        var writer = writers.next();
+        writer.dispose();
+        return writer;
+    }
+}
@@ -0,0 +1,118 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.benchmarks.Samples.Size;
+import de.MCmoderSD.imageloader.core.AnimationLoader;
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.enums.Source;
+import de.MCmoderSD.imageloader.enums.Stage;
+import de.MCmoderSD.imageloader.objects.Animation;
+import de.MCmoderSD.imageloader.objects.ImageInfo;
+import de.MCmoderSD.imageloader.tools.ImageEncoder;
+import de.MCmoderSD.imageloader.tools.Metrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+// Shared singletons under concurrent access, the thread count can be changed with -t
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ContentionBenchmark {
+
+    // Constants
+    private static final int KEYS = 64;
+    private static final String RESOURCE = "/samples/sample.png";
+
+    // Variables
+    private ImageLoader imageLoader;
+    private AnimationLoader animationLoader;
+    private String[] filePaths;
+    private String animationPath;
+    private BufferedImage image;
+
+    // Position of every thread in the key set
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        // Variables
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            index = (int) (Thread.currentThread().threadId() % KEYS);
+        }
+
+        private int next() {
+            index = (index + 1) % KEYS;
+            return index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        // Distinct small files, so threads spread over many cache entries
+        imageLoader = ImageLoader.getInstance();
+        animationLoader = AnimationLoader.getInstance();
+        filePaths = new String[KEYS];
+        for (var i = 0; i < KEYS; i++) filePaths[i] = Samples.write(Samples.encode(Size.SMALL, Extension.PNG), "png").toAbsolutePath().toString();
+        animationPath = Samples.write(Samples.animation(8, 64, 48), "gif").toAbsolutePath().toString();
+        image = Samples.generate(Size.SMALL, false);
+
+        // Fill the caches
+        imageLoader.loadResource(RESOURCE);
+        for (var filePath : filePaths) imageLoader.loadFile(filePath);
+        imageLoader.probe(RESOURCE);
+        animationLoader.loadFile(animationPath);
+    }
+
+    @Benchmark
+    public BufferedImage hotHit() {
+        return imageLoader.loadResource(RESOURCE);
+    }
+
+    @Benchmark
+    public BufferedImage spreadHit(Cursor cursor) {
+        return imageLoader.loadFile(filePaths[cursor.next()]);
+    }
+
+    @Benchmark
+    public BufferedImage asyncHit(Cursor cursor) {
+        return imageLoader.loadFileAsync(filePaths[cursor.next()]).join();
+    }
+
+    @Benchmark
+    public BufferedImage reload() {
+
+        // Every thread invalidates the same key, concurrent loads are coalesced
+        return imageLoader.reloadResource(RESOURCE);
+    }
+
+    @Benchmark
+    public ImageInfo probe() {
+        return imageLoader.probe(RESOURCE);
+    }
+
+    @Benchmark
+    public Animation animationHit() {
+        return animationLoader.loadFile(animationPath);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+
+        // Writers are borrowed from the shared codec pool
+        return ImageEncoder.encode(image, Extension.PNG);
+    }
+
+    @Benchmark
+    public void metrics() {
+        Metrics.getInstance().start(Stage.DECODE).stop(Source.FILE, Extension.PNG, 1024);
+    }
+}
@@ -0,0 +1,83 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.benchmarks.Samples.Size;
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.core.MappedImageInputStream;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.objects.ImageInfo;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.FileImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Cold decodes of every writable format and size class, from file, from memory and through plain ImageIO
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+    // Parameters, WebP has no writer and is covered by the resource benchmark
+    @Param({"JPEG", "PNG", "BMP", "TIFF", "GIF"})
+    public Extension extension;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Size size;
+
+    // Variables
+    private ImageLoader imageLoader;
+    private byte[] data;
+    private Path file;
+    private String filePath;
+    private String dataURI;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        imageLoader = ImageLoader.getInstance();
+        data = Samples.encode(size, extension);
+        file = Samples.write(data, extension.getExtension());
+        filePath = file.toAbsolutePath().toString();
+        dataURI = Samples.dataURI(data, extension);
+    }
+
+    // Loader, every call misses the cache
+    @Benchmark
+    public BufferedImage file() {
+        return imageLoader.reloadFile(filePath);
+    }
+
+    @Benchmark
+    public BufferedImage bytes() {
+        return imageLoader.reloadBase64(dataURI);
+    }
+
+    @Benchmark
+    public ImageInfo probe() {
+        imageLoader.clear();
+        return imageLoader.probe(filePath);
+    }
+
+    // Baselines
+    @Benchmark
+    public BufferedImage imageIO() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(data));
+    }
+
+    // ImageIO closes image input streams after reading
+    @Benchmark
+    public BufferedImage mappedStream() throws IOException {
+        return ImageIO.read(MappedImageInputStream.open(file));
+    }
+
+    @Benchmark
+    public BufferedImage fileStream() throws IOException {
+        return ImageIO.read(new FileImageInputStream(file.toFile()));
+    }
+}
@@ -0,0 +1,76 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.benchmarks.Samples.Size;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.tools.ImageEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// Encoding of every writable format into memory, into a stream and as Base64, plus JPEG qualities
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodeBenchmark {
+
+    // Every writable format and size class
+    @State(Scope.Benchmark)
+    public static class Formats {
+
+        // Parameters
+        @Param({"JPEG", "PNG", "BMP", "TIFF", "GIF"})
+        public Extension extension;
+
+        @Param({"SMALL", "MEDIUM", "LARGE"})
+        public Size size;
+
+        // Variables
+        private BufferedImage image;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            image = Samples.generate(size, Samples.hasAlpha(extension));
+        }
+    }
+
+    // Compression qualities, only formats with a quality setting
+    @State(Scope.Benchmark)
+    public static class Qualities {
+
+        // Parameters
+        @Param({"0.25", "0.5", "0.75", "0.9", "1.0"})
+        public float quality;
+
+        // Variables
+        private BufferedImage image;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            image = Samples.generate(Size.MEDIUM, false);
+        }
+    }
+
+    @Benchmark
+    public byte[] bytes(Formats formats) {
+        return ImageEncoder.encode(formats.image, formats.extension);
+    }
+
+    @Benchmark
+    public void stream(Formats formats) {
+        ImageEncoder.encode(formats.image, formats.extension, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String base64(Formats formats) {
+        return ImageEncoder.toBase64(formats.image, formats.extension);
+    }
+
+    @Benchmark
+    public byte[] jpegQuality(Qualities qualities) {
+        return ImageEncoder.encode(qualities.image, Extension.JPEG, qualities.quality);
+    }
+}
@@ -0,0 +1,92 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.benchmarks.Samples.Size;
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.core.ThumbnailPipeline;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.objects.Rendition;
+import de.MCmoderSD.imageloader.tools.ImageEncoder;
+import de.MCmoderSD.imageloader.tools.ImageResizer;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Thumbnails through the fused pipeline against a full decode with one resize per rendition
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    // Parameters
+    @Param({"JPEG", "PNG"})
+    public Extension extension;
+
+    // Variables
+    private ImageLoader imageLoader;
+    private ThumbnailPipeline pipeline;
+    private Path file;
+    private String filePath;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        imageLoader = ImageLoader.getInstance();
+        pipeline = new ThumbnailPipeline(Rendition.of(1024, 1024, Extension.JPEG), Rendition.of(256, 256, Extension.JPEG), Rendition.of(64, 64, Extension.PNG));
+        file = Samples.write(Samples.encode(Size.LARGE, extension), extension.getExtension());
+        filePath = file.toAbsolutePath().toString();
+    }
+
+    @Benchmark
+    public Map<Rendition, BufferedImage> pipelineRender() {
+        return pipeline.render(filePath);
+    }
+
+    @Benchmark
+    public Map<Rendition, byte[]> pipelineProcess() {
+        return pipeline.process(filePath);
+    }
+
+    @Benchmark
+    public List<byte[]> separate() throws IOException {
+
+        // Full decode, every rendition resized from the original
+        var image = ImageIO.read(file.toFile());
+        var encoded = new ArrayList<byte[]>();
+        for (var rendition : pipeline.getRenditions()) {
+            var size = rendition.fit(image.getWidth(), image.getHeight());
+            var resized = ImageResizer.resize(image, size.width, size.height);
+            if (resized.getColorModel().hasAlpha() && !rendition.extension().isTransparent()) {
+                var flattened = new BufferedImage(resized.getWidth(), resized.getHeight(), BufferedImage.TYPE_INT_RGB);
+                var g = flattened.createGraphics();
+                g.drawImage(resized, 0, 0, Color.WHITE, null);
+                g.dispose();
+                resized = flattened;
+            }
+            encoded.add(ImageEncoder.encode(resized, rendition.extension()));
+        }
+        return encoded;
+    }
+
+    @Benchmark
+    public BufferedImage thumbnail() {
+        imageLoader.clear();
+        return imageLoader.loadThumbnail(filePath, 256);
+    }
+
+    @Benchmark
+    public BufferedImage decodeAndResize() throws IOException {
+        var image = ImageIO.read(file.toFile());
+        var size = Rendition.of(256, 256, Extension.PNG).fit(image.getWidth(), image.getHeight());
+        return ImageResizer.resize(image, size.width, size.height);
+    }
+}
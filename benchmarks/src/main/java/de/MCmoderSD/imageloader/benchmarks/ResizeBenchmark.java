@@ -0,0 +1,80 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.enums.Filter;
+import de.MCmoderSD.imageloader.tools.ImageResizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import static java.awt.image.BufferedImage.*;
+
+// The separable filters at several scale ratios and image types, with and without the Vector API kernels
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResizeBenchmark {
+
+    // Constants
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    // Parameters, BICUBIC runs through Java 2D and never reaches the kernels, so it would measure the same code twice
+    @Param({"LANCZOS", "MITCHELL", "TRIANGLE"})
+    public Filter filter;
+
+    @Param({"0.1", "0.25", "0.5", "1.5"})
+    public double scale;
+
+    @Param({"INT_RGB", "INT_ARGB", "3BYTE_BGR"})
+    public String type;
+
+    // Variables
+    private BufferedImage image;
+    private int width;
+    private int height;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        // Source image of the requested type
+        var source = Samples.generate(WIDTH, HEIGHT, type.equals("INT_ARGB"));
+        image = new BufferedImage(WIDTH, HEIGHT, switch (type) {
+            case "INT_RGB" -> TYPE_INT_RGB;
+            case "INT_ARGB" -> TYPE_INT_ARGB;
+            case "3BYTE_BGR" -> TYPE_3BYTE_BGR;
+            default -> throw new IllegalArgumentException("Unknown type: " + type);
+        });
+        var g = image.createGraphics();
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+
+        // Target size
+        width = Math.max(1, (int) (WIDTH * scale));
+        height = Math.max(1, (int) (HEIGHT * scale));
+    }
+
+    // Fails the vectorized fork instead of silently measuring the scalar loops twice
+    @State(Scope.Benchmark)
+    public static class Kernels {
+
+        @Setup(Level.Trial)
+        public void setup() {
+            if (!ImageResizer.isVectorized()) throw new IllegalStateException("Vector API kernels are not available, install the library with mvn -Pvector install");
+        }
+    }
+
+    @Benchmark
+    public BufferedImage scalar() {
+        return ImageResizer.resize(image, width, height, filter);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public BufferedImage vectorized(Kernels kernels) {
+        return ImageResizer.resize(image, width, height, filter);
+    }
+}
@@ -0,0 +1,86 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.core.AssetArchive;
+import de.MCmoderSD.imageloader.core.AssetPacker;
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.objects.ImageInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+// Classpath resources of every format, cold, cached and served from a packed archive
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceBenchmark {
+
+    // Parameters
+    @Param({"png", "jpg", "bmp", "tiff", "gif", "webp"})
+    public String format;
+
+    // Variables
+    private ImageLoader imageLoader;
+    private String resourcePath;
+
+    // Archive with the same sample images, only registered for the archive benchmark
+    @State(Scope.Benchmark)
+    public static class Archive {
+
+        // Variables
+        private AssetArchive archive;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+
+            // Copy the samples into a directory and pack it
+            var directory = Files.createTempDirectory("benchmark-assets");
+            Files.createDirectories(directory.resolve("samples"));
+            for (var extension : new String[] {"png", "jpg", "bmp", "tiff", "gif", "webp"}) Files.write(directory.resolve("samples/sample." + extension), Samples.resource("/samples/sample." + extension));
+            var output = directory.resolve("assets.pack");
+            AssetPacker.pack(directory, output);
+
+            // Serve the samples from the archive
+            archive = AssetArchive.open(output);
+            ImageLoader.getInstance().addArchive(archive);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            ImageLoader.getInstance().removeArchive(archive);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        imageLoader = ImageLoader.getInstance();
+        resourcePath = "/samples/sample." + format;
+        imageLoader.loadResource(resourcePath);
+    }
+
+    @Benchmark
+    public BufferedImage miss() {
+        return imageLoader.reloadResource(resourcePath);
+    }
+
+    @Benchmark
+    public BufferedImage hit() {
+        return imageLoader.loadResource(resourcePath);
+    }
+
+    @Benchmark
+    public ImageInfo probe() {
+        imageLoader.clear();
+        return imageLoader.probe(resourcePath);
+    }
+
+    @Benchmark
+    public BufferedImage archiveMiss(Archive archive) {
+        return imageLoader.reloadResource(resourcePath);
+    }
+}
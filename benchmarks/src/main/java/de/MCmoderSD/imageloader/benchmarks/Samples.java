@@ -0,0 +1,161 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.tools.ImageEncoder;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+@SuppressWarnings("unused")
+public class Samples {
+
+    // Size classes of generated images
+    public enum Size {
+
+        SMALL(64, 48),
+        MEDIUM(640, 480),
+        LARGE(2560, 1920);
+
+        // Attributes
+        private final int width;
+        private final int height;
+
+        // Constructor
+        Size(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        // Getter
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+    }
+
+    // Helper Methods
+    public static BufferedImage generate(int width, int height, boolean alpha) {
+
+        // Photo-like content, smooth gradients with shapes and noise, so codecs have real work to do
+        var image = new BufferedImage(width, height, alpha ? TYPE_INT_ARGB : TYPE_INT_RGB);
+        var g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setPaint(new GradientPaint(0, 0, new Color(30, 90, 160), width, height, new Color(240, 200, 120)));
+        g.fillRect(0, 0, width, height);
+
+        // Shapes, the same for every run
+        var random = new Random(42);
+        g.setStroke(new BasicStroke(Math.max(1, width / 200f)));
+        for (var i = 0; i < 40; i++) {
+            g.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), alpha ? 64 + random.nextInt(192) : 255));
+            var x = random.nextInt(width);
+            var y = random.nextInt(height);
+            var size = 1 + random.nextInt(Math.max(1, width / 4));
+            if (i % 2 == 0) g.fillOval(x, y, size, size);
+            else g.drawLine(x, y, random.nextInt(width), random.nextInt(height));
+        }
+        g.dispose();
+
+        // Sensor noise
+        for (var y = 0; y < height; y++) {
+            for (var x = 0; x < width; x++) {
+                var pixel = image.getRGB(x, y);
+                var noise = random.nextInt(9) - 4;
+                var r = Math.clamp((pixel >> 16 & 0xFF) + noise, 0, 255);
+                var gr = Math.clamp((pixel >> 8 & 0xFF) + noise, 0, 255);
+                var b = Math.clamp((pixel & 0xFF) + noise, 0, 255);
+                image.setRGB(x, y, pixel & 0xFF000000 | r << 16 | gr << 8 | b);
+            }
+        }
+
+        // Return image
+        return image;
+    }
+
+    public static BufferedImage generate(Size size, boolean alpha) {
+        return generate(size.getWidth(), size.getHeight(), alpha);
+    }
+
+    public static boolean hasAlpha(Extension extension) {
+
+        // Only formats whose writers keep an alpha channel get one
+        return extension == Extension.PNG || extension == Extension.TIFF;
+    }
+
+    public static byte[] encode(Size size, Extension extension) {
+        return ImageEncoder.encode(generate(size, hasAlpha(extension)), extension);
+    }
+
+    public static byte[] animation(int frames, int width, int height) {
+
+        // Animated GIF with moving shapes, frames are written as a sequence
+        var writer = ImageIO.getImageWritersByFormatName("gif").next();
+        var outputStream = new ByteArrayOutputStream();
+        try (var output = new MemoryCacheImageOutputStream(outputStream)) {
+            writer.setOutput(output);
+            writer.prepareWriteSequence(null);
+            var background = generate(width, height, false);
+            for (var i = 0; i < frames; i++) {
+                var frame = new BufferedImage(width, height, TYPE_INT_RGB);
+                var g = frame.createGraphics();
+                g.drawImage(background, 0, 0, null);
+                g.setColor(Color.WHITE);
+                g.fillOval(i * width / frames, height / 3, width / 6, width / 6);
+                g.dispose();
+                writer.writeToSequence(new IIOImage(frame, null, null), null);
+            }
+            writer.endWriteSequence();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write animation", e);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    public static Path write(byte[] data, String extension) {
+
+        // Temp file, removed when the fork exits
+        try {
+            var file = Files.createTempFile("benchmark-", "." + extension);
+            Files.write(file, data);
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write sample", e);
+        }
+    }
+
+    public static String dataURI(byte[] data, Extension extension) {
+        return "data:image/" + extension.getExtension() + ";base64," + Base64.getEncoder().encodeToString(data);
+    }
+
+    public static byte[] resource(String resourcePath) {
+
+        // Read a sample image of the classpath
+        try (var resource = Samples.class.getResourceAsStream(resourcePath)) {
+            if (resource == null) throw new IOException("Resource not found: " + resourcePath);
+            return resource.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read resource: " + resourcePath, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package de.MCmoderSD.imageloader.benchmarks;
+
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.objects.BatchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+// First load in a fresh JVM, with and without the warm-up, every fork measures a single call
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    // Constants
+    private static final String RESOURCE = "/samples/sample.jpg";
+
+    // Codecs warmed up before the measured load
+    @State(Scope.Benchmark)
+    public static class Warm {
+
+        @Setup(Level.Trial)
+        public void setup() {
+            ImageLoader.getInstance().warmUp().join();
+        }
+    }
+
+    @Benchmark
+    public BufferedImage coldLoad() {
+        return ImageLoader.getInstance().loadResource(RESOURCE);
+    }
+
+    @Benchmark
+    public BufferedImage warmLoad(Warm warm) {
+        return ImageLoader.getInstance().loadResource(RESOURCE);
+    }
+
+    @Benchmark
+    public Void warmUp() {
+        return ImageLoader.getInstance().warmUp().join();
+    }
+
+    @Benchmark
+    public BatchResult<BufferedImage> preload() {
+        return ImageLoader.getInstance().preload("/samples/*.{png,jpg,bmp,tiff,gif,webp}").join();
+    }
+}
@@ -1,59 +1,327 @@
 package de.MCmoderSD.imageloader.core;
 
+import de.MCmoderSD.imageloader.enums.CacheMode;
 import de.MCmoderSD.imageloader.enums.Extension;
-import de.MCmoderSD.tools.GZIP;
+import de.MCmoderSD.imageloader.enums.Source;
+import de.MCmoderSD.imageloader.enums.Stage;
+import de.MCmoderSD.imageloader.enums.WatchMode;
+import de.MCmoderSD.imageloader.objects.Animation;
+import de.MCmoderSD.imageloader.objects.BatchResult;
+import de.MCmoderSD.imageloader.objects.Download;
+import de.MCmoderSD.imageloader.objects.Validator;
+import de.MCmoderSD.imageloader.tools.AnimationDecoder;
+import de.MCmoderSD.imageloader.tools.DataURI;
+import de.MCmoderSD.imageloader.tools.Metrics;
 
-import javax.swing.ImageIcon;
-import java.io.File;
 import java.io.IOException;
-import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Base64;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static de.MCmoderSD.imageloader.enums.Extension.GIF;
+import static de.MCmoderSD.imageloader.enums.Extension.WEBP;
 
 @SuppressWarnings("unused")
 public class AnimationLoader {
 
+    // File behind a cached entry and the number of its latest refresh
+    private record Watch(Path file, AtomicLong generation) {
+    }
+
     // Singleton instance
     private static AnimationLoader instance;
 
     // Attributes
-    private final ConcurrentHashMap<String, byte[]> cache;
-    private final Base64.Decoder base64Decoder;
+    private final ConcurrentHashMap<String, Animation> decodedCache;
+    private final ConcurrentHashMap<String, byte[]> compressedCache;
+    private final ConcurrentHashMap<String, Validator> validators;
+    private final ConcurrentHashMap<Path, ConcurrentHashMap<String, Watch>> watched;
+    private final ConcurrentHashMap<String, Watch> watches;
+    private final Consumer<Path> fileListener;
+
+    // Variables
+    private volatile boolean strict;
+    private volatile CacheMode cacheMode;
+    private volatile WatchMode watchMode;
+    private volatile DiskCache diskCache;
 
     // Constructor
     private AnimationLoader() {
-        cache = new ConcurrentHashMap<>();
-        base64Decoder = Base64.getDecoder();
+        decodedCache = new ConcurrentHashMap<>();
+        compressedCache = new ConcurrentHashMap<>();
+        validators = new ConcurrentHashMap<>();
+        watched = new ConcurrentHashMap<>();
+        watches = new ConcurrentHashMap<>();
+        fileListener = this::changed;
+        cacheMode = CacheMode.DECODED;
+        watchMode = WatchMode.OFF;
     }
 
     // Get Singleton Instance
-    public static AnimationLoader getInstance() {
+    public static synchronized AnimationLoader getInstance() {
         if (instance == null) instance = new AnimationLoader();
         return instance;
     }
 
     // Helper Methods
-    private static byte[] deflate(ImageIcon image) {
+    private static boolean isAnimationExtension(String extension) {
         try {
-            return GZIP.deflateObject(image);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to deflate image", e);
+            var ext = Extension.fromString(extension);
+            return ext == GIF || ext == WEBP;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void checkResource(String resourcePath) {
+
+        // Check Parameters
+        if (resourcePath == null || resourcePath.isBlank()) throw new IllegalArgumentException("Resource path cannot be null or blank");
+
+        // Validate image extension
+        if (strict && !isAnimationExtension(resourcePath.substring(resourcePath.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + resourcePath);
+    }
+
+    private void checkURL(String url) {
+
+        // Check Parameters
+        if (url == null || url.isBlank()) throw new IllegalArgumentException("URL cannot be null or blank");
+
+        // Validate image extension
+        if (strict && !isAnimationExtension(url.substring(url.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + url);
+    }
+
+    private void checkFile(String filePath) {
+
+        // Check Parameters
+        if (filePath == null || filePath.isBlank()) throw new IllegalArgumentException("File path cannot be null or blank");
+
+        // Validate image extension
+        if (strict && !isAnimationExtension(filePath.substring(filePath.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + filePath);
+    }
+
+    private void checkBase64(String base64) {
+
+        // Check Parameters
+        if (base64 == null || base64.isBlank()) throw new IllegalArgumentException("Base64 string cannot be null or blank");
+
+        // Validate Base64 format
+        if (!base64.startsWith("data:image/") || !base64.contains(";base64,")) throw new IllegalArgumentException("Invalid Base64 image format - expected format: data:image/{extension};base64,{data}");
+
+        // Validate image extension
+        var extensionPart = base64.substring("data:image/".length(), base64.indexOf(";base64")).toLowerCase();
+        if (strict && !isAnimationExtension(extensionPart)) throw new IllegalArgumentException("Unsupported image format in Base64 string: " + extensionPart);
+    }
+
+    private Animation fromCache(String key) {
+
+        // Decoded entries are returned as they are
+        var animation = decodedCache.get(key);
+        if (animation != null) return animation;
+
+        // Compressed entries are decoded again
+        var data = compressedCache.get(key);
+        return data == null ? null : AnimationDecoder.decode(data);
+    }
+
+    private static byte[] fetch(Source type, Supplier<byte[]> fetch) {
+
+        // Fetch encoded bytes and record how long it took
+        var timer = Metrics.getInstance().start(Stage.FETCH);
+        var data = fetch.get();
+        timer.stop(type, null, data.length);
+        return data;
+    }
+
+    private static Animation decode(Source type, byte[] data) {
+
+        // Decode animation and record how long it took
+        var timer = Metrics.getInstance().start(Stage.DECODE);
+        var animation = AnimationDecoder.decode(data);
+        timer.stop(type, animation.getExtension(), data.length);
+        return animation;
+    }
+
+    private Animation cache(Source type, String key, byte[] data) {
+
+        // Decode animation
+        var animation = decode(type, data);
+
+        // Cache according to the cache mode
+        store(key, animation);
+
+        // Return animation
+        return animation;
+    }
+
+    private void store(String key, Animation animation) {
+        if (cacheMode == CacheMode.DECODED) decodedCache.put(key, animation);
+        else compressedCache.put(key, animation.getData());
+    }
+
+    private boolean contains(String key) {
+        return decodedCache.containsKey(key) || compressedCache.containsKey(key);
+    }
+
+    private Animation load(Source type, String key, Supplier<byte[]> read) {
+
+        // Check Cache
+        var metrics = Metrics.getInstance();
+        var animation = fromCache(key);
+        if (animation != null) {
+            metrics.recordHit(type);
+            return animation;
+        }
+        metrics.recordMiss(type);
+
+        // Load animation and cache it
+        try {
+            var timer = metrics.start(Stage.LOAD);
+            animation = cache(type, key, fetch(type, read));
+            timer.stop(type, animation.getExtension(), 0);
+            return animation;
+        } catch (RuntimeException e) {
+
+            // A failed load leaves no watch behind, unless a concurrent load of the same key succeeded
+            metrics.recordFailure(type, e);
+            if (!contains(key)) unwatch(key);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Animation> submit(Source type, String key, Supplier<byte[]> fetch) {
+
+        // Decoded hits are returned right away, compressed hits are decoded on the CPU pool
+        var metrics = Metrics.getInstance();
+        var executor = LoadExecutor.getInstance();
+        var animation = decodedCache.get(key);
+        if (animation != null) {
+            metrics.recordHit(type);
+            return CompletableFuture.completedFuture(animation);
+        }
+        var data = compressedCache.get(key);
+        if (data != null) {
+            metrics.recordHit(type);
+            return executor.decode(() -> AnimationDecoder.decode(data));
         }
+        metrics.recordMiss(type);
+
+        // Fetch and decode in the background
+        var timer = metrics.start(Stage.LOAD);
+        return executor.submit(() -> fetch(type, fetch), fetched -> cache(type, key, fetched)).whenComplete((loaded, throwable) -> {
+            if (throwable == null) {
+                timer.stop(type, loaded.getExtension(), 0);
+                return;
+            }
+            metrics.recordFailure(type, throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            if (!contains(key)) unwatch(key);
+        });
+    }
+
+    private void remove(String key) {
+
+        // Stop watching first, so a refresh that passed its checks already cannot leave an unwatched entry behind
+        unwatch(key);
+        decodedCache.remove(key);
+        compressedCache.remove(key);
+        validators.remove(key);
     }
 
-    private static ImageIcon inflate(byte[] compressedData) {
+    private void watch(String filePath) {
+
+        // Check watch mode
+        if (watchMode == WatchMode.OFF) return;
+
+        // File paths are the cache keys, one file can be loaded under several paths
+        Path file;
         try {
-            return (ImageIcon) GZIP.inflateObject(compressedData);
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException("Failed to inflate image", e);
+            file = Path.of(filePath).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            return;
+        }
+        var watch = new Watch(file, new AtomicLong());
+        watches.put(filePath, watch);
+        watched.compute(file, (path, entries) -> {
+            var keys = entries != null ? entries : new ConcurrentHashMap<String, Watch>();
+            keys.put(filePath, watch);
+            return keys;
+        });
+        FileWatcher.getInstance().watch(file, fileListener);
+    }
+
+    private void unwatch(String key) {
+
+        // Removed entries are not refreshed anymore, the file is released with its last entry
+        var watch = watches.remove(key);
+        if (watch == null) return;
+        var file = watch.file();
+        if (watched.computeIfPresent(file, (path, entries) -> {
+            entries.remove(key, watch);
+            return entries.isEmpty() ? null : entries;
+        }) != null) return;
+        FileWatcher.getInstance().unwatch(file, fileListener);
+
+        // A concurrent load may have registered the file again in between
+        if (watched.containsKey(file)) FileWatcher.getInstance().watch(file, fileListener);
+    }
+
+    private void changed(Path file) {
+
+        // Entries read from the file
+        var entries = watched.get(file);
+        if (entries == null) return;
+
+        // Deleted files and the invalidate mode drop the entries, the next load reads the file again
+        if (watchMode != WatchMode.REFRESH || !Files.isRegularFile(file)) {
+            List.copyOf(entries.keySet()).forEach(this::remove);
+            return;
         }
+
+        // Refresh cached entries in the background, callers get the old animation until the new one replaces it
+        entries.forEach((key, watch) -> {
+
+            // Entries that are still being loaded read the file themselves
+            if (!contains(key)) return;
+
+            // Only the latest refresh of an entry counts
+            var generation = watch.generation().incrementAndGet();
+            LoadExecutor.getInstance().submit(() -> fetch(Source.FILE, () -> fetchFile(key)), data -> decode(Source.FILE, data)).whenComplete((animation, throwable) -> {
+                if (throwable != null) {
+                    if (watches.get(key) == watch && watch.generation().get() == generation) remove(key);
+                    return;
+                }
+
+                // Entries that were removed or reloaded in the meantime must not come back, the lock keeps a cache mode switch from moving the entry under it
+                synchronized (this) {
+                    if (watches.get(key) != watch || watch.generation().get() != generation || !contains(key)) return;
+                    store(key, animation);
+                }
+
+                // A removal between the check and the store would leave an unwatched entry behind
+                if (!watches.containsKey(key)) remove(key);
+            });
+        });
+    }
+
+    private void unwatchAll() {
+        watched.keySet().forEach(file -> FileWatcher.getInstance().unwatch(file, fileListener));
+        watched.clear();
+        watches.clear();
     }
 
     // Read Methods
-    private ImageIcon readResource(String resourcePath) {
+    private byte[] readResource(String resourcePath) {
 
         // Load image from resource
         try (var resource = ImageLoader.class.getResourceAsStream(resourcePath)) {
@@ -67,168 +335,276 @@ public class AnimationLoader {
             // Validate that data was read
             if (imageData.length == 0) throw new IOException("Resource is empty: " + resourcePath);
 
-            // Parse and return image
-            return new ImageIcon(imageData);
+            // Return data
+            return imageData;
 
         } catch (IOException e) {
             throw new RuntimeException("Failed to load image from resource: " + resourcePath, e);
         }
     }
 
-    private ImageIcon readURL(String url) {
+    private byte[] readURL(String url) {
+
+        // Check disk tier
+        var disk = diskCache;
+        var data = disk == null ? null : disk.get(url);
+        if (data != null) return data;
 
         // Load image from URL
+        return download(url, null).data();
+    }
+
+    private Download download(String url, Validator validator) {
+
+        // Download data, known validators make it a conditional request
+        Download download;
         try {
-            return new ImageIcon(new URI(url).toURL());
+            download = HttpFetcher.getInstance().fetch(url, validator);
         } catch (IOException | URISyntaxException e) {
             throw new RuntimeException("Failed to load image from URL: " + url, e);
         }
-    }
-
-    private ImageIcon readFile(String filePath) {
+        if (download.notModified()) return download;
 
-        // Load image from File
-        var file = new File(filePath);
+        // Remember validators for the next reload
+        if (download.validator() != null && !download.validator().isEmpty()) validators.put(url, download.validator());
+        else validators.remove(url);
 
-        // Check if file exists
-        if (!file.exists()) throw new IllegalArgumentException("File not found: " + filePath);
+        // Persist data for the next start
+        var disk = diskCache;
+        if (disk != null) disk.put(url, download.data());
 
-        // Return image
-        return new ImageIcon(filePath);
+        // Return download
+        return download;
     }
 
-    private ImageIcon readBase64(byte[] data) {
-
-        // Validate Base64 data
-        if (data == null || data.length == 0) throw new IllegalArgumentException("Base64 data cannot be null or empty");
+    private byte[] readFile(String filePath) {
 
-        // Load image from Base64 data
-        return new ImageIcon(data);
+        // Watch the file before reading it, so changes during the read are not missed
+        watch(filePath);
+        return fetchFile(filePath);
     }
 
-    public ImageIcon loadResource(String resourcePath) {
-
-        // Check Parameters
-        if (resourcePath == null || resourcePath.isBlank()) throw new IllegalArgumentException("Resource path cannot be null or blank");
-
-        // Validate image extension
-        if (Extension.fromString(resourcePath.substring(resourcePath.lastIndexOf(".") + 1)) != GIF) throw new IllegalArgumentException("Unsupported image format: " + resourcePath);
-
-        // Check Cache
-        if (cache.containsKey(resourcePath)) return inflate(cache.get(resourcePath));
+    private static byte[] fetchFile(String filePath) {
 
-        // Load image and cache it
-        var image = readResource(resourcePath);
+        // Load image from File
+        var file = Path.of(filePath);
 
-        // Cache
-        cache.put(resourcePath, deflate(image));
+        // Check if file exists
+        if (!Files.exists(file)) throw new IllegalArgumentException("File not found: " + filePath);
 
-        // Return image
-        return image;
+        // Return data
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load image from file: " + filePath, e);
+        }
     }
 
-    public ImageIcon loadURL(String url) {
+    public Animation loadResource(String resourcePath) {
 
-        // Check Parameters
-        if (url == null || url.isBlank()) throw new IllegalArgumentException("URL cannot be null or blank");
+        // Validate input
+        checkResource(resourcePath);
 
-        // Validate image extension
-        if (Extension.fromString(url.substring(url.lastIndexOf(".") + 1)) != GIF) throw new IllegalArgumentException("Unsupported image format: " + url);
-
-        // Check Cache
-        if (cache.containsKey(url)) return inflate(cache.get(url));
+        // Load animation or return the cached one
+        return load(Source.RESOURCE, resourcePath, () -> readResource(resourcePath));
+    }
 
-        // Load image and cache it
-        var image = readURL(url);
+    public Animation loadURL(String url) {
 
-        // Cache
-        cache.put(url, deflate(image));
+        // Validate input
+        checkURL(url);
 
-        // Return image
-        return image;
+        // Load animation or return the cached one
+        return load(Source.URL, url, () -> readURL(url));
     }
 
-    public ImageIcon loadFile(String filePath) {
+    public Animation loadFile(String filePath) {
 
-        // Check Parameters
-        if (filePath == null || filePath.isBlank()) throw new IllegalArgumentException("File path cannot be null or blank");
-
-        // Validate image extension
-        if (Extension.fromString(filePath.substring(filePath.lastIndexOf(".") + 1)) != GIF)  throw new IllegalArgumentException("Unsupported image format: " + filePath);
+        // Validate input
+        checkFile(filePath);
 
-        // Check Cache
-        if (cache.containsKey(filePath)) return inflate(cache.get(filePath));
+        // Load animation or return the cached one
+        return load(Source.FILE, filePath, () -> readFile(filePath));
+    }
 
-        // Load image and cache it
-        var image = readFile(filePath);
+    public Animation loadBase64(String base64) {
 
-        // Cache
-        cache.put(filePath, deflate(image));
+        // Validate input
+        checkBase64(base64);
 
-        // Return image
-        return image;
+        // Load animation or return the cached one, data URIs are keyed by a digest of their payload
+        return load(Source.BASE64, DataURI.digest(base64), () -> DataURI.decode(base64));
     }
 
-    public ImageIcon loadBase64(String base64) {
-
-        // Check Parameters
-        if (base64 == null || base64.isBlank()) throw new IllegalArgumentException("Base64 string cannot be null or blank");
+    // Async Load Methods
+    public CompletableFuture<Animation> loadResourceAsync(String resourcePath) {
+        checkResource(resourcePath);
+        return submit(Source.RESOURCE, resourcePath, () -> readResource(resourcePath));
+    }
 
-        // Validate Base64 format
-        if (!base64.startsWith("data:image/") || !base64.contains(";base64,")) throw new IllegalArgumentException("Invalid Base64 image format - expected format: data:image/{extension};base64,{data}");
+    public CompletableFuture<Animation> loadURLAsync(String url) {
+        checkURL(url);
+        return submit(Source.URL, url, () -> readURL(url));
+    }
 
-        // Validate image extension
-        var extensionPart = base64.substring("data:image/".length(), base64.indexOf(";base64")).toLowerCase();
-        if (Extension.fromString(extensionPart) != GIF) throw new IllegalArgumentException("Unsupported image format in Base64 string: " + extensionPart);
+    public CompletableFuture<Animation> loadFileAsync(String filePath) {
+        checkFile(filePath);
+        return submit(Source.FILE, filePath, () -> readFile(filePath));
+    }
 
-        // Extract the actual Base64 data
-        var base64Data = base64.substring(base64.indexOf(",") + 1);
+    public CompletableFuture<Animation> loadBase64Async(String base64) {
+        checkBase64(base64);
+        return submit(Source.BASE64, DataURI.digest(base64), () -> DataURI.decode(base64));
+    }
 
-        // Check Cache
-        if (cache.containsKey(base64)) return inflate(cache.get(base64));
+    public CompletableFuture<Animation> loadAsync(String source) {
+        return switch (Source.detect(source)) {
+            case RESOURCE -> loadResourceAsync(source);
+            case FILE -> loadFileAsync(source);
+            case URL -> loadURLAsync(source);
+            case BASE64 -> loadBase64Async(source);
+        };
+    }
 
-        // Load image and cache it
-        var image = readBase64(base64Decoder.decode(base64Data));
+    public BatchResult<Animation> loadAll(Collection<String> sources) {
 
-        // Cache
-        cache.put(base64, deflate(image));
+        // Check Parameters
+        if (sources == null) throw new IllegalArgumentException("Sources cannot be null");
+
+        // Start all loads, invalid sources fail right away
+        var futures = new LinkedHashMap<String, CompletableFuture<Animation>>();
+        for (var source : sources) {
+            try {
+                futures.put(source, loadAsync(source));
+            } catch (RuntimeException e) {
+                futures.put(source, CompletableFuture.failedFuture(e));
+            }
+        }
 
-        // Return image
-        return image;
+        // Wait for all loads and collect the results per source
+        var loaded = new LinkedHashMap<String, Animation>();
+        var failures = new LinkedHashMap<String, Throwable>();
+        futures.forEach((source, future) -> {
+            try {
+                loaded.put(source, future.join());
+            } catch (CompletionException e) {
+                failures.put(source, e.getCause() != null ? e.getCause() : e);
+            } catch (CancellationException e) {
+                failures.put(source, e);
+            }
+        });
+
+        // Return result
+        return new BatchResult<>(loaded, failures);
     }
 
     // Reload Methods
-    public ImageIcon reloadResource(String resourcePath) {
-        cache.remove(resourcePath);
+    public Animation reloadResource(String resourcePath) {
+        remove(resourcePath);
         return loadResource(resourcePath);
     }
 
-    public ImageIcon reloadURL(String url) {
-        cache.remove(url);
+    public Animation reloadURL(String url) {
+
+        // Revalidate a cached animation instead of downloading it again
+        checkURL(url);
+        var validator = validators.get(url);
+        var animation = validator == null ? null : fromCache(url);
+        if (animation != null) {
+
+            // Not modified keeps the cached animation
+            var download = download(url, validator);
+            if (download.notModified()) return animation;
+
+            // Replace the cached animation with the new version
+            return cache(Source.URL, url, download.data());
+        }
+
+        // Without validators the animation is downloaded again
+        remove(url);
+        var disk = diskCache;
+        if (disk != null) disk.remove(url);
         return loadURL(url);
     }
 
-    public ImageIcon reloadFile(String filePath) {
-        cache.remove(filePath);
+    public Animation reloadFile(String filePath) {
+        remove(filePath);
         return loadFile(filePath);
     }
 
-    public ImageIcon reloadBase64(String base64) {
-        cache.remove(base64);
+    public Animation reloadBase64(String base64) {
+        checkBase64(base64);
+        remove(DataURI.digest(base64));
         return loadBase64(base64);
     }
 
     // Setter
     public void clear() {
-        cache.clear();
+        unwatchAll();
+        decodedCache.clear();
+        compressedCache.clear();
+        validators.clear();
+    }
+
+    public void setStrict(boolean strict) {
+        this.strict = strict;
+    }
+
+    public void setDiskCache(DiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    public synchronized void setWatchMode(WatchMode watchMode) {
+
+        // Check Parameters
+        if (watchMode == null) throw new IllegalArgumentException("Watch mode cannot be null");
+
+        // Files are registered by the next read, turning it off stops watching them
+        this.watchMode = watchMode;
+        if (watchMode == WatchMode.OFF) unwatchAll();
+    }
+
+    public synchronized void setCacheMode(CacheMode cacheMode) {
+
+        // Check Parameters
+        if (cacheMode == null) throw new IllegalArgumentException("Cache mode cannot be null");
+        if (this.cacheMode == cacheMode) return;
+
+        // Move existing entries to the new tier
+        if (cacheMode == CacheMode.COMPRESSED) {
+            decodedCache.forEach((key, animation) -> compressedCache.put(key, animation.getData()));
+            decodedCache.clear();
+        } else {
+            compressedCache.forEach((key, data) -> decodedCache.put(key, AnimationDecoder.decode(data)));
+            compressedCache.clear();
+        }
+
+        // Set cache mode
+        this.cacheMode = cacheMode;
     }
 
     // Getter
     public int size() {
-        return cache.size();
+        return decodedCache.size() + compressedCache.size();
     }
 
     public boolean isEmpty() {
-        return cache.isEmpty();
+        return decodedCache.isEmpty() && compressedCache.isEmpty();
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    public DiskCache getDiskCache() {
+        return diskCache;
+    }
+
+    public CacheMode getCacheMode() {
+        return cacheMode;
+    }
+
+    public WatchMode getWatchMode() {
+        return watchMode;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,223 @@
+package de.MCmoderSD.imageloader.core;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+@SuppressWarnings("unused")
+public class AssetArchive implements AutoCloseable {
+
+    // Constants
+    static final int MAGIC = 0x494D4741;
+    static final int VERSION = 1;
+    static final int HEADER = 3 * Integer.BYTES;
+    static final byte RAW = 0;
+    static final byte DEFLATE = 1;
+
+    // Location and layout of one packed image
+    private record Entry(int offset, int length, int width, int height, int type, byte compression, int rawLength) {
+    }
+
+    // Attributes
+    private final Path path;
+    private final Arena arena;
+    private final ByteBuffer data;
+    private final HashMap<String, Entry> index;
+
+    // Variables
+    private volatile boolean closed;
+
+    // Constructor
+    private AssetArchive(Path path, Arena arena, ByteBuffer data, HashMap<String, Entry> index) {
+        this.path = path;
+        this.arena = arena;
+        this.data = data;
+        this.index = index;
+    }
+
+    // Factory Methods
+    public static AssetArchive open(Path path) {
+
+        // Check Parameters
+        if (path == null) throw new IllegalArgumentException("Path cannot be null");
+
+        // Map the whole archive, closing the archive unmaps it, so the file is not locked until the next collection
+        var arena = Arena.ofShared();
+        try (var channel = FileChannel.open(path, READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException("Archive is larger than 2 GiB: " + path);
+            var data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+            // Read header
+            if (data.getInt() != MAGIC) throw new IOException("Invalid asset archive: " + path);
+            var version = data.getInt();
+            if (version != VERSION) throw new IOException("Unsupported asset archive version: " + version);
+            var count = data.getInt();
+
+            // Read the index at the front, lookups are a single hash map access afterwards
+            var index = HashMap.<String, Entry>newHashMap(count);
+            for (var i = 0; i < count; i++) {
+                var name = new byte[Short.toUnsignedInt(data.getShort())];
+                data.get(name);
+                var entry = new Entry(Math.toIntExact(data.getLong()), data.getInt(), data.getInt(), data.getInt(), data.getInt(), data.get(), data.getInt());
+                if (entry.offset() < 0 || entry.length() < 0 || entry.rawLength() < 0 || entry.offset() > data.limit() - entry.length()) throw new IOException("Entry out of bounds: " + new String(name, UTF_8));
+                index.put(new String(name, UTF_8), entry);
+            }
+
+            // Return archive
+            return new AssetArchive(path, arena, data, index);
+
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw new RuntimeException("Failed to open asset archive: " + path, e);
+        }
+    }
+
+    // Helper Methods
+    static String normalize(String name) {
+
+        // Check Parameters
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Name cannot be null or blank");
+
+        // Names are absolute resource paths
+        name = name.replace('\\', '/');
+        return name.startsWith("/") ? name : "/" + name;
+    }
+
+    private static ByteBuffer inflate(ByteBuffer blob, int rawLength, String name) {
+
+        // Inflate the packed bytes
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(blob);
+            var raw = ByteBuffer.allocate(rawLength);
+            while (raw.hasRemaining() && !inflater.finished()) if (inflater.inflate(raw) == 0 && (inflater.needsInput() || inflater.needsDictionary())) throw new DataFormatException("Truncated entry");
+            if (raw.hasRemaining()) throw new DataFormatException("Entry is shorter than its pixels");
+            return raw.flip().order(ByteOrder.LITTLE_ENDIAN);
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Failed to inflate asset: " + name, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static BufferedImage copy(Entry entry, ByteBuffer blob, String name) {
+
+        // Raw entries are copied as they are, compressed ones are inflated first
+        blob = blob.order(ByteOrder.LITTLE_ENDIAN);
+        if (entry.compression() == DEFLATE) blob = inflate(blob, entry.rawLength(), name);
+
+        // Copy pixels straight into the raster, no decoding involved
+        var image = new BufferedImage(entry.width(), entry.height(), entry.type());
+        switch (image.getRaster().getDataBuffer()) {
+            case DataBufferInt buffer -> blob.asIntBuffer().get(buffer.getData());
+            case DataBufferByte buffer -> blob.get(buffer.getData());
+            default -> throw new IllegalStateException("Unsupported image type in asset archive: " + entry.type());
+        }
+
+        // Return image
+        return image;
+    }
+
+    private byte[] read(Entry entry) {
+        var blob = new byte[entry.length()];
+        data.get(entry.offset(), blob);
+        return blob;
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("Asset archive is closed: " + path);
+    }
+
+    // Read Methods
+    public BufferedImage get(String name) {
+
+        // Check index
+        checkOpen();
+        var entry = index.get(normalize(name));
+        if (entry == null) return null;
+
+        // Raw entries are copied straight from the mapping, buffers of shared mappings cannot be passed to zlib so compressed ones are read out first
+        var blob = entry.compression() == DEFLATE ? ByteBuffer.wrap(read(entry)) : data.slice(entry.offset(), entry.length());
+        return copy(entry, blob, name);
+    }
+
+    byte[] read(String name) {
+
+        // Check index
+        checkOpen();
+        var entry = index.get(normalize(name));
+        if (entry == null) throw new IllegalArgumentException("Asset not found: " + name);
+
+        // Copy the packed bytes out of the mapping, this is where its pages are read from disk
+        return read(entry);
+    }
+
+    BufferedImage get(String name, byte[] blob) {
+
+        // Check index
+        var entry = index.get(normalize(name));
+        if (entry == null) throw new IllegalArgumentException("Asset not found: " + name);
+        if (blob == null || blob.length != entry.length()) throw new IllegalArgumentException("Blob does not match the asset: " + name);
+
+        // Copy from bytes read earlier
+        return copy(entry, ByteBuffer.wrap(blob), name);
+    }
+
+    public boolean contains(String name) {
+        return !closed && index.containsKey(normalize(name));
+    }
+
+    @Override
+    public synchronized void close() {
+
+        // Closing twice must not close the arena twice
+        if (closed) return;
+        closed = true;
+
+        // Closing fails while a read is still copying out of the mapping, it is retried once the copy is done
+        while (true) {
+            try {
+                arena.close();
+                return;
+            } catch (IllegalStateException e) {
+                if (!arena.scope().isAlive()) return;
+                Thread.yield();
+            }
+        }
+    }
+
+    // Getter
+    public Path getPath() {
+        return path;
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
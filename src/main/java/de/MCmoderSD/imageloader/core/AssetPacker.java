@@ -0,0 +1,201 @@
+package de.MCmoderSD.imageloader.core;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.tools.Rasters;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+import static de.MCmoderSD.imageloader.core.AssetArchive.*;
+import static java.awt.image.BufferedImage.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@SuppressWarnings("unused")
+public class AssetPacker {
+
+    // Constants
+    private static final String USAGE = "Usage: AssetPacker <input directory> <output file> [--prefix <resource prefix>] [--raw]";
+    private static final int ENTRY_HEADER = Short.BYTES + Long.BYTES + 5 * Integer.BYTES + Byte.BYTES;
+
+    // Pixels of one image, ready to be written
+    private record Blob(String name, int width, int height, int type, byte compression, int rawLength, byte[] data) {
+    }
+
+    // Helper Methods
+    private static boolean isSupported(Path path) {
+        var name = path.getFileName().toString();
+        try {
+            Extension.fromString(name.substring(name.lastIndexOf('.') + 1));
+            return name.contains(".");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static BufferedImage standardize(BufferedImage image) {
+
+        // Standard layouts are stored as they are
+        if (Rasters.isStandard(image)) return image;
+
+        // Everything else is converted to packed ARGB or RGB
+        var converted = new BufferedImage(image.getWidth(), image.getHeight(), image.getColorModel().hasAlpha() ? TYPE_INT_ARGB : TYPE_INT_RGB);
+        var g = converted.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return converted;
+    }
+
+    private static Blob blob(String name, BufferedImage image, boolean compress) {
+
+        // Raw raster data in little-endian order
+        image = standardize(image);
+        var raw = switch (image.getRaster().getDataBuffer()) {
+            case DataBufferInt buffer -> {
+                var bytes = ByteBuffer.allocate(buffer.getData().length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                bytes.asIntBuffer().put(buffer.getData());
+                yield bytes.array();
+            }
+            case DataBufferByte buffer -> buffer.getData();
+            default -> throw new IllegalStateException("Unsupported data buffer: " + image.getRaster().getDataBuffer());
+        };
+        if (!compress) return new Blob(name, image.getWidth(), image.getHeight(), image.getType(), RAW, raw.length, raw);
+
+        // Deflate losslessly, packing runs at build time so the best ratio is worth it
+        var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            var output = new ByteArrayOutputStream(raw.length / 2 + 64);
+            var chunk = new byte[8192];
+            while (!deflater.finished()) output.write(chunk, 0, deflater.deflate(chunk));
+
+            // Keep the raw pixels if compression does not pay off
+            var compressed = output.toByteArray();
+            return compressed.length < raw.length ? new Blob(name, image.getWidth(), image.getHeight(), image.getType(), DEFLATE, raw.length, compressed) : new Blob(name, image.getWidth(), image.getHeight(), image.getType(), RAW, raw.length, raw);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // Pack Methods
+    public static int pack(Path inputDirectory, Path output) {
+        return pack(inputDirectory, "/", output, true);
+    }
+
+    public static int pack(Path inputDirectory, String prefix, Path output, boolean compress) {
+
+        // Check Parameters
+        if (inputDirectory == null || !Files.isDirectory(inputDirectory)) throw new IllegalArgumentException("Input directory not found: " + inputDirectory);
+        if (prefix == null) throw new IllegalArgumentException("Prefix cannot be null");
+        if (output == null) throw new IllegalArgumentException("Output cannot be null");
+        var root = normalize(prefix.isBlank() ? "/" : prefix.endsWith("/") ? prefix : prefix + "/");
+
+        // Collect images, names are the resource paths they would have on the classpath
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(inputDirectory)) {
+            files = stream.filter(Files::isRegularFile).filter(AssetPacker::isSupported).sorted(Comparator.comparing(Path::toString)).toList();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list input directory: " + inputDirectory, e);
+        }
+
+        // Decode and compress in parallel, one broken image fails the build
+        var loader = ImageLoader.getInstance();
+        var blobs = files.parallelStream().map(file -> {
+            var name = root + inputDirectory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            return blob(name, loader.read(file.toAbsolutePath().toString(), reader -> reader.read(0)), compress);
+        }).toList();
+
+        // Index at the front, blobs follow in the same order
+        var indexLength = HEADER;
+        for (var blob : blobs) indexLength += ENTRY_HEADER + blob.name().getBytes(UTF_8).length;
+        var index = ByteBuffer.allocate(indexLength).order(ByteOrder.LITTLE_ENDIAN);
+        index.putInt(MAGIC).putInt(VERSION).putInt(blobs.size());
+        long offset = indexLength;
+        for (var blob : blobs) {
+            var name = blob.name().getBytes(UTF_8);
+            if (name.length > 0xFFFF) throw new IllegalArgumentException("Name is too long: " + blob.name());
+            index.putShort((short) name.length).put(name).putLong(offset).putInt(blob.data().length);
+            index.putInt(blob.width()).putInt(blob.height()).putInt(blob.type()).put(blob.compression()).putInt(blob.rawLength());
+            offset += blob.data().length;
+        }
+        if (offset > Integer.MAX_VALUE) throw new IllegalArgumentException("Archive would be larger than 2 GiB: " + output);
+
+        // Write to a temp file first and publish atomically, running loaders never see a partial archive
+        try {
+            var directory = output.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            var temp = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+            try (var channel = FileChannel.open(temp, WRITE)) {
+                index.flip();
+                while (index.hasRemaining()) channel.write(index);
+                for (var blob : blobs) {
+                    var data = ByteBuffer.wrap(blob.data());
+                    while (data.hasRemaining()) channel.write(data);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, output, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write asset archive: " + output, e);
+        }
+
+        // Return number of packed images
+        return blobs.size();
+    }
+
+    // Command Line
+    public static void main(String[] args) {
+
+        // Parse arguments
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        var prefix = "/";
+        var compress = true;
+        for (var i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--prefix" -> {
+                    if (++i >= args.length) {
+                        System.err.println(USAGE);
+                        System.exit(2);
+                    }
+                    prefix = args[i];
+                }
+                case "--raw" -> compress = false;
+                default -> {
+                    System.err.println("Unknown option: " + args[i] + System.lineSeparator() + USAGE);
+                    System.exit(2);
+                }
+            }
+        }
+
+        // Pack directory
+        var output = Path.of(args[1]);
+        var count = pack(Path.of(args[0]), prefix, output, compress);
+        try {
+            System.out.println("Packed " + count + " images into " + output + " (" + Files.size(output) + " bytes)");
+        } catch (IOException e) {
+            System.out.println("Packed " + count + " images into " + output);
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,158 @@
+package de.MCmoderSD.imageloader.core;
+
+import de.MCmoderSD.imageloader.tools.Rasters;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Losslessly compressed raster of a demoted cache entry
+record CompressedImage(int width, int height, int type, byte[] data) {
+
+    // Constants
+    private static final int CHUNK = 64 * 1024;
+
+    // Helper Methods
+    private static void drain(Deflater deflater, byte[] chunk, ByteArrayOutputStream output) {
+        while (!deflater.needsInput()) output.write(chunk, 0, deflater.deflate(chunk));
+    }
+
+    private static void fill(Inflater inflater, ByteBuffer target) throws DataFormatException {
+        while (target.hasRemaining()) if (inflater.inflate(target) == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) throw new DataFormatException("Truncated raster");
+    }
+
+    // Factory Methods
+    static CompressedImage compress(BufferedImage image) {
+
+        // Other layouts are not demoted
+        var buffer = Rasters.standard(image);
+        if (buffer == null) return null;
+
+        // Deflate in chunks, the fastest level keeps demotion cheap and still shrinks flat areas and alpha well
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            var chunk = new byte[CHUNK];
+            var output = new ByteArrayOutputStream(CHUNK);
+            switch (buffer) {
+                case DataBufferInt ints -> {
+
+                    // Pixels are converted to little-endian bytes one chunk at a time, never copying the whole raster
+                    var pixels = ints.getData();
+                    var bytes = ByteBuffer.allocate(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+                    for (var i = 0; i < pixels.length; ) {
+                        var count = Math.min(pixels.length - i, CHUNK / Integer.BYTES);
+                        bytes.clear().limit(count * Integer.BYTES);
+                        bytes.asIntBuffer().put(pixels, i, count);
+                        deflater.setInput(bytes);
+                        drain(deflater, chunk, output);
+                        i += count;
+                    }
+                }
+                case DataBufferByte bytes -> {
+                    deflater.setInput(bytes.getData());
+                    drain(deflater, chunk, output);
+                }
+                default -> throw new IllegalStateException("Unsupported data buffer: " + buffer);
+            }
+
+            // Flush the rest
+            deflater.finish();
+            while (!deflater.finished()) output.write(chunk, 0, deflater.deflate(chunk));
+            return new CompressedImage(image.getWidth(), image.getHeight(), image.getType(), output.toByteArray());
+
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static CompressedImage compress(PixelView view) {
+
+        // Native pixels already use the same little-endian layout, buffers of shared segments cannot be passed to zlib so they are copied in chunks
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            var chunk = new byte[CHUNK];
+            var input = new byte[CHUNK];
+            var output = new ByteArrayOutputStream(CHUNK);
+            var segment = view.segment();
+            for (var offset = 0L; offset < segment.byteSize(); ) {
+                var count = (int) Math.min(CHUNK, segment.byteSize() - offset);
+                MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, input, 0, count);
+                deflater.setInput(input, 0, count);
+                drain(deflater, chunk, output);
+                offset += count;
+            }
+            deflater.finish();
+            while (!deflater.finished()) output.write(chunk, 0, deflater.deflate(chunk));
+            return new CompressedImage(view.getWidth(), view.getHeight(), view.getType(), output.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // Read Methods
+    BufferedImage decompress() {
+
+        // Inflate straight into the raster
+        var image = new BufferedImage(width, height, type);
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            switch (image.getRaster().getDataBuffer()) {
+                case DataBufferInt buffer -> {
+                    var pixels = buffer.getData();
+                    var bytes = ByteBuffer.allocate(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+                    for (var i = 0; i < pixels.length; ) {
+                        var count = Math.min(pixels.length - i, CHUNK / Integer.BYTES);
+                        fill(inflater, bytes.clear().limit(count * Integer.BYTES));
+                        bytes.flip().asIntBuffer().get(pixels, i, count);
+                        i += count;
+                    }
+                }
+                case DataBufferByte buffer -> fill(inflater, ByteBuffer.wrap(buffer.getData()));
+                default -> throw new IllegalStateException("Unsupported image type: " + type);
+            }
+            return image;
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Failed to decompress cached image", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    PixelView decompressView() {
+
+        // Inflate into native memory one chunk at a time
+        var view = PixelView.allocate(width, height, type);
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            var chunk = new byte[CHUNK];
+            var segment = view.segment();
+            for (var offset = 0L; offset < segment.byteSize(); ) {
+                var count = (int) Math.min(CHUNK, segment.byteSize() - offset);
+                fill(inflater, ByteBuffer.wrap(chunk, 0, count));
+                MemorySegment.copy(chunk, 0, segment, ValueLayout.JAVA_BYTE, offset, count);
+                offset += count;
+            }
+            return view;
+        } catch (DataFormatException | RuntimeException e) {
+            view.close();
+            throw new RuntimeException("Failed to decompress cached image", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Getter
+    int getWeight() {
+        return data.length;
+    }
+}
@@ -0,0 +1,320 @@
+package de.MCmoderSD.imageloader.core;
+
+import de.MCmoderSD.imageloader.tools.Rasters;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@SuppressWarnings("unused")
+public class DiskCache {
+
+    // Constants
+    private static final String DATA_SUFFIX = ".bin";
+    private static final String PIXEL_SUFFIX = ".px";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int PIXEL_MAGIC = 0x494D4750;
+    private static final int PIXEL_HEADER = 4 * Integer.BYTES;
+
+    // Attributes
+    private final Path directory;
+    private final long maxSize;
+    private final boolean storePixels;
+    private final LinkedHashMap<String, Long> index;
+
+    // Variables
+    private long size;
+
+    // Constructor
+    public DiskCache(Path directory, long maxSize) {
+        this(directory, maxSize, false);
+    }
+
+    public DiskCache(Path directory, long maxSize, boolean storePixels) {
+
+        // Check Parameters
+        if (directory == null) throw new IllegalArgumentException("Directory cannot be null");
+        if (maxSize <= 0) throw new IllegalArgumentException("Max size must be a positive value");
+
+        // Set attributes
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.storePixels = storePixels;
+        index = new LinkedHashMap<>(16, 0.75f, true);
+
+        // Rebuild the index from the directory, the entry files are the only source of truth
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open disk cache: " + directory, e);
+        }
+    }
+
+    // Helper Methods
+    private synchronized void recover() throws IOException {
+
+        // Collect entries, unfinished writes of a crashed process are deleted
+        record Entry(Path path, long size, FileTime lastUsed) {
+        }
+        var entries = new ArrayList<Entry>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (var path : (Iterable<Path>) files::iterator) {
+                var name = path.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) Files.deleteIfExists(path);
+                else if (name.endsWith(DATA_SUFFIX) || name.endsWith(PIXEL_SUFFIX)) entries.add(new Entry(path, Files.size(path), Files.getLastModifiedTime(path)));
+            }
+        }
+
+        // Restore the LRU order from the last use of every entry
+        entries.sort(Comparator.comparing(Entry::lastUsed));
+        for (var entry : entries) {
+            index.put(entry.path().getFileName().toString(), entry.size());
+            size += entry.size();
+        }
+
+        // Apply the size cap in case it was lowered
+        evict();
+    }
+
+    private static String fileName(String key, String suffix) {
+
+        // Check Parameters
+        if (key == null || key.isBlank()) throw new IllegalArgumentException("Key cannot be null or blank");
+
+        // Hash the key into a file system safe name
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key.getBytes(UTF_8))) + suffix;
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 digest", e);
+        }
+    }
+
+    private Path touch(String name) {
+
+        // Unknown entries are misses
+        synchronized (this) {
+            if (index.get(name) == null) return null;
+        }
+
+        // Persist the access for the LRU order after a restart
+        var path = directory.resolve(name);
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+        }
+        return path;
+    }
+
+    private void write(String name, ByteBuffer... buffers) {
+
+        // Entries larger than the whole cache are not stored
+        long length = 0;
+        for (var buffer : buffers) length += buffer.remaining();
+        if (length > maxSize) return;
+
+        try {
+
+            // Write to a temp file first, readers never see partial entries
+            var temp = Files.createTempFile(directory, name, TEMP_SUFFIX);
+            try (var channel = FileChannel.open(temp, WRITE)) {
+                for (var buffer : buffers) while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(false);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            // Publish atomically and account for the new size
+            synchronized (this) {
+                Files.move(temp, directory.resolve(name), ATOMIC_MOVE, REPLACE_EXISTING);
+                var previous = index.put(name, length);
+                size += length - (previous == null ? 0 : previous);
+                evict();
+            }
+
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write disk cache entry: " + name, e);
+        }
+    }
+
+    private synchronized void delete(String name) {
+        var previous = index.remove(name);
+        if (previous == null) return;
+        size -= previous;
+        try {
+            Files.deleteIfExists(directory.resolve(name));
+        } catch (IOException ignored) {
+        }
+    }
+
+    private synchronized void evict() {
+
+        // Drop least recently used entries until the cache fits
+        var iterator = index.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            var entry = iterator.next();
+            iterator.remove();
+            size -= entry.getValue();
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    // Data Methods
+    public byte[] get(String key) {
+
+        // Check index
+        var path = touch(fileName(key, DATA_SUFFIX));
+        if (path == null) return null;
+
+        // Read entry, a concurrent eviction is a miss
+        try {
+            return Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read disk cache entry: " + key, e);
+        }
+    }
+
+    public void put(String key, byte[] data) {
+
+        // Check Parameters
+        if (data == null || data.length == 0) throw new IllegalArgumentException("Data cannot be null or empty");
+
+        // Write entry
+        write(fileName(key, DATA_SUFFIX), ByteBuffer.wrap(data));
+    }
+
+    // Pixel Methods
+    public BufferedImage getImage(String key) {
+
+        // Check if pixel dumps are enabled
+        if (!storePixels) return null;
+
+        // Check index
+        var path = touch(fileName(key, PIXEL_SUFFIX));
+        if (path == null) return null;
+
+        // Map the dump and copy the pixels straight into the raster, no decoding involved, the mapping is released right after the copy so evictions can delete the file
+        try (var arena = Arena.ofConfined(); var channel = FileChannel.open(path, READ)) {
+            var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+            // Read header
+            if (mapped.getInt() != PIXEL_MAGIC) throw new IOException("Invalid pixel dump: " + path);
+            var image = new BufferedImage(mapped.getInt(), mapped.getInt(), mapped.getInt());
+
+            // Copy pixels
+            switch (image.getRaster().getDataBuffer()) {
+                case DataBufferInt buffer -> mapped.asIntBuffer().get(buffer.getData());
+                case DataBufferByte buffer -> mapped.get(buffer.getData());
+                default -> throw new IOException("Unsupported pixel dump: " + path);
+            }
+
+            // Return image
+            return image;
+
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+
+            // Damaged dumps are dropped and reported as a miss
+            delete(fileName(key, PIXEL_SUFFIX));
+            return null;
+        }
+    }
+
+    public void putImage(String key, BufferedImage image) {
+
+        // Check Parameters
+        if (image == null) throw new IllegalArgumentException("Image cannot be null");
+        // Only standard layouts can be restored by copying the raster
+        if (!storePixels || !Rasters.isStandard(image)) return;
+
+        // Header with the layout needed to rebuild the image
+        var header = ByteBuffer.allocate(PIXEL_HEADER).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(PIXEL_MAGIC).putInt(image.getWidth()).putInt(image.getHeight()).putInt(image.getType()).flip();
+
+        // Raw raster data
+        var pixels = switch (image.getRaster().getDataBuffer()) {
+            case DataBufferInt buffer -> {
+                var data = buffer.getData();
+                var bytes = ByteBuffer.allocate(data.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                bytes.asIntBuffer().put(data);
+                yield bytes;
+            }
+            case DataBufferByte buffer -> ByteBuffer.wrap(buffer.getData());
+            default -> throw new IllegalStateException("Unsupported data buffer: " + image.getRaster().getDataBuffer());
+        };
+
+        // Write entry
+        write(fileName(key, PIXEL_SUFFIX), header, pixels);
+    }
+
+    // Setter
+    public void remove(String key) {
+        delete(fileName(key, DATA_SUFFIX));
+        delete(fileName(key, PIXEL_SUFFIX));
+    }
+
+    public synchronized void clear() {
+        for (var name : index.keySet()) {
+            try {
+                Files.deleteIfExists(directory.resolve(name));
+            } catch (IOException ignored) {
+            }
+        }
+        index.clear();
+        size = 0;
+    }
+
+    // Getter
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    public boolean isStoringPixels() {
+        return storePixels;
+    }
+}
@@ -0,0 +1,193 @@
+package de.MCmoderSD.imageloader.core;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+@SuppressWarnings("unused")
+public class FileWatcher {
+
+    // Constants
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(100);
+
+    // Singleton instance
+    private static FileWatcher instance;
+
+    // Attributes
+    private final ConcurrentHashMap<Path, Set<Consumer<Path>>> listeners;
+    private final ConcurrentHashMap<Path, WatchKey> directories;
+    private final ConcurrentHashMap<Path, ScheduledFuture<?>> pending;
+    private final ScheduledExecutorService scheduler;
+
+    // Variables
+    private volatile Duration delay;
+    private WatchService service;
+
+    // Constructor
+    private FileWatcher() {
+        listeners = new ConcurrentHashMap<>();
+        directories = new ConcurrentHashMap<>();
+        pending = new ConcurrentHashMap<>();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("ImageLoader-Watcher-Scheduler").daemon().factory());
+        delay = DEFAULT_DELAY;
+    }
+
+    // Get Singleton Instance
+    public static synchronized FileWatcher getInstance() {
+        if (instance == null) instance = new FileWatcher();
+        return instance;
+    }
+
+    // Helper Methods
+    private static Path normalize(Path file) {
+        if (file == null) throw new IllegalArgumentException("File cannot be null");
+        return file.toAbsolutePath().normalize();
+    }
+
+    private synchronized void register(Path directory) throws IOException {
+
+        // Every directory is registered once, the service and its thread are started on first use
+        if (directories.containsKey(directory)) return;
+        if (service == null) {
+            service = FileSystems.getDefault().newWatchService();
+            Thread.ofPlatform().name("ImageLoader-Watcher").daemon().start(this::poll);
+        }
+        directories.put(directory, directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+    }
+
+    private synchronized void release(Path directory) {
+
+        // Stop watching directories without watched files
+        for (var file : listeners.keySet()) if (directory.equals(file.getParent())) return;
+        var key = directories.remove(directory);
+        if (key != null) key.cancel();
+    }
+
+    private void poll() {
+        while (true) {
+
+            // Wait for the next batch of events
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            // Overflows lose the file names, every watched file of the directory counts as changed
+            var directory = (Path) key.watchable();
+            for (var event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) scheduleAll(directory);
+                else schedule(directory.resolve((Path) event.context()));
+            }
+
+            // Deleted directories cannot be watched anymore, their files are gone as well
+            if (!key.reset()) {
+                directories.remove(directory, key);
+                scheduleAll(directory);
+            }
+        }
+    }
+
+    private void scheduleAll(Path directory) {
+        for (var file : listeners.keySet()) if (directory.equals(file.getParent())) schedule(file);
+    }
+
+    private void schedule(Path file) {
+
+        // Other files of the directory are ignored
+        if (!listeners.containsKey(file)) return;
+
+        // Bursts of events are coalesced, listeners run once the file has been quiet for the delay
+        var millis = delay.toMillis();
+        pending.compute(file, (path, previous) -> {
+            if (previous != null) previous.cancel(false);
+            return scheduler.schedule(() -> fire(path), millis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void fire(Path file) {
+
+        // Notify listeners, a broken listener must not stop the others
+        pending.remove(file);
+        var targets = listeners.get(file);
+        if (targets == null) return;
+        for (var listener : targets) {
+            try {
+                listener.accept(file);
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    // Watch Methods
+    public boolean watch(Path file, Consumer<Path> listener) {
+
+        // Check Parameters
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null");
+        file = normalize(file);
+        var directory = file.getParent();
+        if (directory == null) return false;
+
+        // Add the listener before the directory, so a concurrent release keeps it
+        listeners.computeIfAbsent(file, path -> ConcurrentHashMap.newKeySet()).add(listener);
+        try {
+            register(directory);
+            return true;
+        } catch (IOException | UnsupportedOperationException | ProviderMismatchException e) {
+
+            // Files on file systems without watch support are not watched
+            unwatch(file, listener);
+            return false;
+        }
+    }
+
+    public void unwatch(Path file, Consumer<Path> listener) {
+
+        // Remove the listener and the file once nobody listens anymore
+        var normalized = normalize(file);
+        var removed = listeners.computeIfPresent(normalized, (path, targets) -> {
+            targets.remove(listener);
+            return targets.isEmpty() ? null : targets;
+        }) == null;
+
+        // Drop pending notifications and the directory watch
+        if (!removed || normalized.getParent() == null) return;
+        var future = pending.remove(normalized);
+        if (future != null) future.cancel(false);
+        release(normalized.getParent());
+    }
+
+    // Setter
+    public void setDelay(Duration delay) {
+        if (delay == null || delay.isNegative()) throw new IllegalArgumentException("Delay cannot be null or negative");
+        this.delay = delay;
+    }
+
+    // Getter
+    public boolean isWatching(Path file) {
+        return listeners.containsKey(normalize(file));
+    }
+
+    public Set<Path> getWatchedFiles() {
+        return Set.copyOf(listeners.keySet());
+    }
+
+    public Duration getDelay() {
+        return delay;
+    }
+}
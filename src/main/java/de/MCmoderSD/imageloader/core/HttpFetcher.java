@@ -0,0 +1,155 @@
+package de.MCmoderSD.imageloader.core;
+
+import de.MCmoderSD.imageloader.objects.Download;
+import de.MCmoderSD.imageloader.objects.Validator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+@SuppressWarnings("unused")
+public class HttpFetcher {
+
+    // Constants
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+
+    // Singleton instance
+    private static HttpFetcher instance;
+
+    // Variables
+    private volatile HttpClient client;
+    private volatile Duration connectTimeout;
+    private volatile Duration requestTimeout;
+    private volatile int maxConnectionsPerHost;
+    private volatile ConcurrentHashMap<String, Semaphore> hosts;
+
+    // Constructor
+    private HttpFetcher() {
+        connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+        hosts = new ConcurrentHashMap<>();
+        client = buildClient(connectTimeout);
+    }
+
+    // Get Singleton Instance
+    public static synchronized HttpFetcher getInstance() {
+        if (instance == null) instance = new HttpFetcher();
+        return instance;
+    }
+
+    // Helper Methods
+    private static HttpClient buildClient(Duration connectTimeout) {
+
+        // Pooled connections, HTTP/2 when the server supports it
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    private static Validator validator(HttpResponse<?> response) {
+        var headers = response.headers();
+        return new Validator(headers.firstValue("ETag").orElse(null), headers.firstValue("Last-Modified").orElse(null));
+    }
+
+    // Fetch Methods
+    public Download fetch(String url) throws IOException, URISyntaxException {
+        return fetch(url, null);
+    }
+
+    public Download fetch(String url, Validator validator) throws IOException, URISyntaxException {
+
+        // Check Parameters
+        if (url == null || url.isBlank()) throw new IllegalArgumentException("URL cannot be null or blank");
+        var uri = new URI(url);
+
+        // Other schemes like file: or jar: are read without revalidation
+        var scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase();
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            try (var stream = uri.toURL().openStream()) {
+                return new Download(stream.readAllBytes(), null, false);
+            }
+        }
+
+        // Build request, known validators turn it into a conditional request
+        var request = HttpRequest.newBuilder(uri).timeout(requestTimeout).GET();
+        if (validator != null && validator.etag() != null) request.header("If-None-Match", validator.etag());
+        if (validator != null && validator.lastModified() != null) request.header("If-Modified-Since", validator.lastModified());
+
+        // Limit concurrent requests per host
+        var permits = hosts.computeIfAbsent(uri.getHost() == null ? "" : uri.getHost().toLowerCase(), host -> new Semaphore(maxConnectionsPerHost));
+        HttpResponse<byte[]> response;
+        try {
+            permits.acquire();
+            try {
+                response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching: " + url, e);
+        }
+
+        // Evaluate response
+        var status = response.statusCode();
+        if (status == 304) return Download.unchanged(validator);
+        if (status < 200 || status >= 300) throw new IOException("Unexpected HTTP status " + status + " for: " + url);
+        if (response.body().length == 0) throw new IOException("Empty response body for: " + url);
+        return new Download(response.body(), validator(response), false);
+    }
+
+    // Setter
+    public void setConnectTimeout(Duration connectTimeout) {
+        if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) throw new IllegalArgumentException("Connect timeout must be a positive duration");
+
+        // Swap the client, new requests use the new timeout right away
+        HttpClient previous;
+        synchronized (this) {
+            this.connectTimeout = connectTimeout;
+            previous = client;
+            client = buildClient(connectTimeout);
+        }
+
+        // Release the selector thread and the pooled connections of the old client once its requests are done
+        previous.close();
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+        if (requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) throw new IllegalArgumentException("Request timeout must be a positive duration");
+        this.requestTimeout = requestTimeout;
+    }
+
+    public synchronized void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        if (maxConnectionsPerHost <= 0) throw new IllegalArgumentException("Max connections per host must be a positive value");
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        hosts = new ConcurrentHashMap<>();
+    }
+
+    // Getter
+    public HttpClient getClient() {
+        return client;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+}
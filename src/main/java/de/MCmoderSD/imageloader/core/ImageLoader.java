@@ -1,35 +1,128 @@
 package de.MCmoderSD.imageloader.core;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.enums.Source;
+import de.MCmoderSD.imageloader.enums.Stage;
+import de.MCmoderSD.imageloader.enums.Storage;
+import de.MCmoderSD.imageloader.enums.WatchMode;
+import de.MCmoderSD.imageloader.objects.BatchResult;
+import de.MCmoderSD.imageloader.objects.CachePolicy;
+import de.MCmoderSD.imageloader.objects.Download;
+import de.MCmoderSD.imageloader.objects.ImageInfo;
+import de.MCmoderSD.imageloader.objects.Tile;
+import de.MCmoderSD.imageloader.objects.Validator;
+import de.MCmoderSD.imageloader.tools.CodecPool;
+import de.MCmoderSD.imageloader.tools.DataURI;
+import de.MCmoderSD.imageloader.tools.HeapMonitor;
+import de.MCmoderSD.imageloader.tools.ImageResizer;
+import de.MCmoderSD.imageloader.tools.Metrics;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
+import java.io.InputStream;
 import java.net.URISyntaxException;
-import java.util.Base64;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @SuppressWarnings({"unused", "BooleanMethodIsAlwaysInverted"})
 public class ImageLoader {
 
+    // Constants
+    private static final int INFO_CACHE_SIZE = 10_000;
+    private static final long MIN_HOT_WEIGHT = 16L * 1024 * 1024;
+
     // Singleton instance
     private static ImageLoader instance;
 
+    // Reader callback that may throw IOExceptions
+    @FunctionalInterface
+    interface ReaderTask<T> {
+        T apply(ImageReader reader) throws IOException;
+    }
+
+    // File behind a cached entry, the task that reads the entry again and the number of its latest refresh
+    private record Watch(Path file, ReaderTask<BufferedImage> task, AtomicLong generation) {
+    }
+
     // Attributes
-    private final ConcurrentHashMap<String, BufferedImage> cache;
-    private final Base64.Decoder base64Decoder;
+    private final ConcurrentHashMap<String, CompletableFuture<BufferedImage>> inFlight;
+    private final Cache<String, ImageInfo> infoCache;
+    private final Cache<String, Validator> validators;
+    private final CopyOnWriteArrayList<AssetArchive> archives;
+    private final ConcurrentHashMap<Path, ConcurrentHashMap<String, Watch>> watched;
+    private final ConcurrentHashMap<String, Watch> watches;
+    private final Consumer<Path> fileListener;
+    private final ReentrantReadWriteLock swapLock;
+
+    // Variables
+    private volatile boolean strict;
+    private volatile WatchMode watchMode;
+    private volatile CachePolicy cachePolicy;
+    private volatile Cache<String, BufferedImage> cache;
+    private volatile Cache<String, PixelView> offHeapCache;
+    private volatile Cache<String, CompressedImage> coldCache;
+    private volatile boolean pressured;
+    private boolean monitored;
+    private volatile DiskCache diskCache;
+    private CompletableFuture<Void> warmUp;
 
     // Constructor
     private ImageLoader() {
-        cache = new ConcurrentHashMap<>();
-        base64Decoder = Base64.getDecoder();
+        cachePolicy = CachePolicy.unbounded();
+        cache = buildCache(cachePolicy);
+        inFlight = new ConcurrentHashMap<>();
+        infoCache = Caffeine.newBuilder().maximumSize(INFO_CACHE_SIZE).build();
+        validators = Caffeine.newBuilder().maximumSize(INFO_CACHE_SIZE).build();
+        archives = new CopyOnWriteArrayList<>();
+        watched = new ConcurrentHashMap<>();
+        watches = new ConcurrentHashMap<>();
+        fileListener = this::changed;
+        swapLock = new ReentrantReadWriteLock();
+        watchMode = WatchMode.OFF;
     }
 
     // Get Singleton Instance
-    public static ImageLoader getInstance() {
+    public static synchronized ImageLoader getInstance() {
         if (instance == null) instance = new ImageLoader();
         return instance;
     }
@@ -44,34 +137,839 @@ public class ImageLoader {
         }
     }
 
-    // Read Methods
+    private void checkResource(String resourcePath) {
+
+        // Check Parameters
+        if (resourcePath == null || resourcePath.isBlank()) throw new IllegalArgumentException("Resource path cannot be null or blank");
+
+        // Validate image extension
+        if (strict && !isValidImageExtension(resourcePath.substring(resourcePath.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + resourcePath);
+    }
+
+    private void checkURL(String url) {
+
+        // Check Parameters
+        if (url == null || url.isBlank()) throw new IllegalArgumentException("URL cannot be null or blank");
+
+        // Validate image extension
+        if (strict && !isValidImageExtension(url.substring(url.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + url);
+    }
+
+    private void checkFile(String filePath) {
+
+        // Check Parameters
+        if (filePath == null || filePath.isBlank()) throw new IllegalArgumentException("File path cannot be null or blank");
+
+        // Validate image extension
+        if (strict && !isValidImageExtension(filePath.substring(filePath.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + filePath);
+    }
+
+    private void checkBase64(String base64) {
+
+        // Check Parameters
+        if (base64 == null || base64.isBlank()) throw new IllegalArgumentException("Base64 string cannot be null or blank");
+
+        // Validate Base64 format
+        if (!base64.startsWith("data:image/") || !base64.contains(";base64,")) throw new IllegalArgumentException("Invalid Base64 image format - expected format: data:image/{extension};base64,{data}");
+
+        // Validate image extension
+        var extensionPart = base64.substring("data:image/".length(), base64.indexOf(";base64")).toLowerCase();
+        if (strict && !isValidImageExtension(extensionPart)) throw new IllegalArgumentException("Unsupported image format in Base64 string: " + extensionPart);
+    }
+
+    private void check(Source type, String source) {
+        switch (type) {
+            case RESOURCE -> checkResource(source);
+            case FILE -> checkFile(source);
+            case URL -> checkURL(source);
+            case BASE64 -> checkBase64(source);
+        }
+    }
+
+    private static String key(Source type, String source) {
+
+        // Data URIs are keyed by a digest of their payload instead of the whole string
+        return type == Source.BASE64 ? DataURI.digest(source) : source;
+    }
+
+    private Cache<String, BufferedImage> buildCache(CachePolicy policy) {
+
+        // Report evictions to the metrics and demote entries pushed out by size, entries that leave the cache are not watched anymore
+        return buildCache(policy, ImageLoader::weigh, (key, image, cause) -> {
+            Metrics.getInstance().recordEviction();
+            if (cause != RemovalCause.SIZE || !demote(key, () -> CompressedImage.compress(image))) unwatch(key);
+        });
+    }
+
+    private Cache<String, PixelView> buildOffHeapCache(CachePolicy policy) {
+
+        // Native memory is freed as soon as an entry is evicted, views still held by callers keep it alive until they are closed
+        return buildCache(policy, view -> (int) Math.min(view.getByteSize(), Integer.MAX_VALUE), (key, view, cause) -> {
+            Metrics.getInstance().recordEviction();
+            if (cause != RemovalCause.SIZE || !demote(key, () -> CompressedImage.compress(view))) unwatch(key);
+            view.close();
+        });
+    }
+
+    private static <V> Cache<String, V> buildCache(CachePolicy policy, ToIntFunction<V> weigher, RemovalListener<String, V> evictionListener) {
+
+        // Record stats for the eviction count
+        var builder = Caffeine.newBuilder().recordStats().evictionListener(evictionListener);
+
+        // Weight-bounded eviction (W-TinyLFU), with a cold tier the bound is needed to shrink the hot tier under pressure
+        if (policy.isBounded() || policy.hasColdTier()) builder.maximumWeight(hotWeight(policy)).weigher((String key, V value) -> weigher.applyAsInt(value));
+
+        // Optional expiry
+        if (policy.expireAfterWrite() != null) builder.expireAfterWrite(policy.expireAfterWrite());
+        if (policy.expireAfterAccess() != null) builder.expireAfterAccess(policy.expireAfterAccess());
+
+        // Build cache
+        return builder.build();
+    }
+
+    private Cache<String, CompressedImage> buildColdCache(CachePolicy policy) {
+
+        // Bounded by compressed size, soft values let the collector drop cold entries before running out of memory
+        return Caffeine.newBuilder()
+                .<String, CompressedImage>evictionListener((key, image, cause) -> unwatch(key))
+                .maximumWeight(policy.coldWeight())
+                .weigher((String key, CompressedImage image) -> image.getWeight())
+                .softValues()
+                .build();
+    }
+
+    private static long hotWeight(CachePolicy policy) {
+        return policy.isBounded() ? policy.maxWeight() : Long.MAX_VALUE;
+    }
+
+    private static int weigh(BufferedImage image) {
+
+        // Raster size in bytes
+        var buffer = image.getRaster().getDataBuffer();
+        var bytes = (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / Byte.SIZE;
+
+        // Clamp to the weigher's range
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static void put(Cache<String, PixelView> views, String key, PixelView view) {
+
+        // Replaced views are freed right away, the eviction listener only sees evictions
+        var previous = views.asMap().put(key, view);
+        if (previous != null) previous.close();
+    }
+
+    private static void clear(Cache<String, PixelView> views) {
+
+        // Free every entry now instead of waiting for a removal listener
+        views.asMap().forEach((key, view) -> {
+            if (views.asMap().remove(key, view)) view.close();
+        });
+    }
+
+    private void store(String key, BufferedImage image) {
+
+        // Stores never race with a policy swap, so loaded images cannot end up in a replaced cache
+        var lock = swapLock.readLock();
+        lock.lock();
+        try {
+
+            // Standard layouts are moved to native memory in off-heap mode, other layouts stay on the heap
+            var views = offHeapCache;
+            var view = views == null ? null : PixelView.copyOf(image);
+            if (view == null) cache.put(key, image);
+            else put(views, key, view);
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PixelView acquire(String key) {
+
+        // A view of its own for the caller, null if the entry is missing or was freed in between
+        var views = offHeapCache;
+        var view = views == null ? null : views.getIfPresent(key);
+        return view == null ? null : view.acquire();
+    }
+
+    private boolean demote(String key, Supplier<CompressedImage> compressor) {
+
+        // Keep a compressed copy instead of dropping the pixels, layouts that cannot be rebuilt are dropped
+        var cold = coldCache;
+        if (cold == null) return false;
+        var compressed = compressor.get();
+        if (compressed == null) return false;
+        cold.put(key, compressed);
+        Metrics.getInstance().recordDemotion();
+        return true;
+    }
+
+    private void relieve() {
+
+        // Halve the hot tier, the least valuable entries are demoted by the eviction policy
+        if (coldCache == null) return;
+        var floor = Math.min(MIN_HOT_WEIGHT, hotWeight(cachePolicy));
+        cache.policy().eviction().ifPresent(eviction -> {
+            pressured = true;
+
+            // Never above the current limit, small budgets must not grow up to the floor
+            eviction.setMaximum(Math.min(eviction.getMaximum(), Math.max(floor, eviction.weightedSize().orElse(0L) / 2)));
+        });
+    }
+
+    private void restore() {
+
+        // Grow the hot tier back once the heap has recovered
+        if (!pressured || HeapMonitor.getInstance().isUnderPressure()) return;
+        pressured = false;
+        var policy = cachePolicy;
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(hotWeight(policy)));
+    }
+
+    private BufferedImage lookup(String key) {
+
+        // Hot tier
+        var image = cache.getIfPresent(key);
+        if (image != null) return image;
+
+        // Off-heap tier, the pixels are copied into a new image for the caller
+        var shared = acquire(key);
+        if (shared != null) try (shared) {
+            return shared.toBufferedImage();
+        }
+
+        // Cold tier, decompressed entries are promoted back into the hot tier
+        var cold = coldCache;
+        var compressed = cold == null ? null : cold.asMap().remove(key);
+        if (compressed == null) return null;
+        Metrics.getInstance().recordPromotion();
+        var lock = swapLock.readLock();
+        lock.lock();
+        try {
+            var views = offHeapCache;
+            if (views == null) {
+                image = compressed.decompress();
+                cache.put(key, image);
+                return image;
+            }
+
+            // Off-heap entries are inflated straight into native memory
+            var view = compressed.decompressView();
+            try (var copy = view.acquire()) {
+                put(views, key, view);
+                return copy.toBufferedImage();
+            }
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void invalidate(String key) {
+
+        // Stop watching first, so a refresh that passed its checks already cannot leave an unwatched entry behind
+        unwatch(key);
+
+        // Hot tiers first, a concurrent demotion finishes before the cold entry is removed
+        cache.invalidate(key);
+        var views = offHeapCache;
+        var view = views == null ? null : views.asMap().remove(key);
+        if (view != null) view.close();
+        var cold = coldCache;
+        if (cold != null) cold.invalidate(key);
+        infoCache.invalidate(key);
+    }
+
+    private boolean contains(String key) {
+        var views = offHeapCache;
+        var cold = coldCache;
+        return cache.asMap().containsKey(key) || views != null && views.asMap().containsKey(key) || cold != null && cold.asMap().containsKey(key);
+    }
+
+    private Supplier<BufferedImage> watched(Source type, String source, String key, Supplier<BufferedImage> reader, ReaderTask<BufferedImage> task) {
+
+        // Files are registered when they are read, so only cached entries are watched, failed reads are unwatched again by the load
+        if (type != Source.FILE) return reader;
+        return () -> {
+            watch(source, key, task);
+            return reader.get();
+        };
+    }
+
+    private void watch(String filePath, String key, ReaderTask<BufferedImage> task) {
+
+        // Check watch mode
+        if (watchMode == WatchMode.OFF) return;
+
+        // Remember how to read the entry again, one file can back several entries
+        Path file;
+        try {
+            file = Path.of(filePath).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            return;
+        }
+        var watch = new Watch(file, task, new AtomicLong());
+        watches.put(key, watch);
+        watched.compute(file, (path, entries) -> {
+            var keys = entries != null ? entries : new ConcurrentHashMap<String, Watch>();
+            keys.put(key, watch);
+            return keys;
+        });
+        FileWatcher.getInstance().watch(file, fileListener);
+    }
+
+    private void unwatch(String key) {
+
+        // Entries that left the cache are not refreshed anymore, the file is released with its last entry
+        var watch = watches.remove(key);
+        if (watch == null) return;
+        var file = watch.file();
+        if (watched.computeIfPresent(file, (path, entries) -> {
+            entries.remove(key, watch);
+            return entries.isEmpty() ? null : entries;
+        }) != null) return;
+        FileWatcher.getInstance().unwatch(file, fileListener);
+
+        // A concurrent load may have registered the file again in between
+        if (watched.containsKey(file)) FileWatcher.getInstance().watch(file, fileListener);
+    }
+
+    private void changed(Path file) {
+
+        // Entries read from the file
+        var entries = watched.get(file);
+        if (entries == null) return;
+
+        // Deleted files and the invalidate mode drop the entries, the next load reads the file again
+        if (watchMode != WatchMode.REFRESH || !Files.isRegularFile(file)) {
+            List.copyOf(entries.keySet()).forEach(this::invalidate);
+            return;
+        }
+
+        // Refresh cached entries in the background, callers get the old image until the new one replaces it
+        entries.forEach((key, watch) -> {
+
+            // Entries that are still being loaded read the file themselves
+            if (!contains(key)) return;
+
+            // Read the file on the I/O executor and decode it on the CPU pool, only the latest refresh of an entry counts
+            var generation = watch.generation().incrementAndGet();
+            LoadExecutor.getInstance().submit(() -> fetchFile(file.toString()), data -> decode(data, "file: " + file, false, watch.task())).whenComplete((image, throwable) -> {
+                infoCache.invalidate(key);
+                if (throwable != null) {
+                    if (watch.generation().get() == generation) invalidate(key);
+                    return;
+                }
+
+                // Entries that were evicted or invalidated in the meantime must not come back
+                synchronized (watch) {
+                    if (watches.get(key) != watch || watch.generation().get() != generation || !contains(key)) return;
+                    store(key, image);
+                }
+
+                // An invalidation between the check and the store would leave an unwatched entry behind
+                if (!watches.containsKey(key)) invalidate(key);
+            });
+        });
+    }
+
+    private void unwatchAll() {
+        watched.keySet().forEach(file -> FileWatcher.getInstance().unwatch(file, fileListener));
+        watched.clear();
+        watches.clear();
+    }
+
+    private BufferedImage load(Source type, String key, Supplier<BufferedImage> reader) {
+
+        // Check Cache
+        var metrics = Metrics.getInstance();
+        var image = lookup(key);
+        if (image != null) {
+            metrics.recordHit(type);
+            return image;
+        }
+        metrics.recordMiss(type);
+        restore();
+
+        // Join an in-flight load for the same key
+        var future = new CompletableFuture<BufferedImage>();
+        var pending = inFlight.putIfAbsent(key, future);
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                if (e.getCause() instanceof Error cause) throw cause;
+                throw e;
+            }
+        }
+
+        try {
+
+            // Check Cache again, the previous load may have finished in between
+            image = lookup(key);
+
+            // Load image and cache it
+            if (image == null) {
+                var timer = metrics.start(Stage.LOAD);
+                image = reader.get();
+                timer.stop(type, null, 0);
+                store(key, image);
+            }
+
+            // Wake up waiting callers
+            future.complete(image);
+            return image;
+
+        } catch (RuntimeException | Error e) {
+
+            // Errors like an OutOfMemoryError must wake up waiting callers as well, a failed load leaves no watch behind
+            metrics.recordFailure(type, e);
+            unwatch(key);
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private CompletableFuture<BufferedImage> submit(Source type, String key, Supplier<byte[]> fetch, String source) {
+        return submit(type, key, fetch, data -> decode(type, data, source));
+    }
+
+    private CompletableFuture<BufferedImage> submit(Source type, String key, Supplier<byte[]> fetch, Function<byte[], BufferedImage> decode) {
+
+        // Check Cache
+        var metrics = Metrics.getInstance();
+        var image = lookup(key);
+        if (image != null) {
+            metrics.recordHit(type);
+            return CompletableFuture.completedFuture(image);
+        }
+        metrics.recordMiss(type);
+        restore();
+
+        // Join an in-flight load for the same key
+        var future = new CompletableFuture<BufferedImage>();
+        var pending = inFlight.putIfAbsent(key, future);
+        if (pending != null) return pending.copy();
+
+        // Fetch and decode in the background
+        var timer = metrics.start(Stage.LOAD);
+        try {
+            LoadExecutor.getInstance().submit(() -> fetch(type, fetch), decode).whenComplete((loaded, throwable) -> {
+                try {
+
+                    // Cache image and wake up waiting callers
+                    if (throwable == null) {
+                        timer.stop(type, null, 0);
+                        store(key, loaded);
+                        future.complete(loaded);
+                    } else {
+                        var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                        metrics.recordFailure(type, cause);
+                        unwatch(key);
+                        future.completeExceptionally(cause);
+                    }
+
+                } catch (RuntimeException | Error e) {
+
+                    // A failed store, like a native allocation running out, must wake up waiting callers as well
+                    metrics.recordFailure(type, e);
+                    unwatch(key);
+                    future.completeExceptionally(e);
+                } finally {
+
+                    // Release key
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+
+            // A rejected dispatch must not leave the key claimed, callers that already joined fail as well
+            metrics.recordFailure(type, e);
+            future.completeExceptionally(e);
+            inFlight.remove(key, future);
+        }
+
+        // Callers get their own copy, so cancelling one does not affect the others
+        return future.copy();
+    }
+
+    private LinkedHashMap<String, CompletableFuture<BufferedImage>> start(Collection<String> sources) {
+
+        // Start all loads, invalid sources fail right away
+        var futures = new LinkedHashMap<String, CompletableFuture<BufferedImage>>();
+        for (var source : sources) {
+            try {
+                futures.put(source, loadAsync(source));
+            } catch (RuntimeException e) {
+                futures.put(source, CompletableFuture.failedFuture(e));
+            }
+        }
+        return futures;
+    }
+
+    private static BatchResult<BufferedImage> collect(LinkedHashMap<String, CompletableFuture<BufferedImage>> futures) {
+
+        // Wait for all loads and collect the results per source
+        var loaded = new LinkedHashMap<String, BufferedImage>();
+        var failures = new LinkedHashMap<String, Throwable>();
+        futures.forEach((source, future) -> {
+            try {
+                loaded.put(source, future.join());
+            } catch (CompletionException e) {
+                failures.put(source, e.getCause() != null ? e.getCause() : e);
+            } catch (CancellationException e) {
+                failures.put(source, e);
+            }
+        });
+
+        // Return result
+        return new BatchResult<>(loaded, failures);
+    }
+
+    private CompletableFuture<BatchResult<BufferedImage>> preload(Supplier<List<String>> sources) {
+
+        // Warm up the codecs while the sources are listed, listing jars and reading manifests is blocking I/O
+        var warmUp = warmUp();
+        var loads = CompletableFuture.supplyAsync(() -> {
+
+            // Expand patterns, a pattern that cannot be listed fails as a whole
+            var futures = new LinkedHashMap<String, CompletableFuture<BufferedImage>>();
+            for (var source : sources.get()) {
+                try {
+                    futures.putAll(start(expand(source)));
+                } catch (RuntimeException e) {
+                    futures.put(source, CompletableFuture.failedFuture(e));
+                }
+            }
+            return futures;
+        }, LoadExecutor.getInstance().getExecutor());
+
+        // Ready once the codecs are warm and every source has settled, a failed warm-up only costs speed
+        return loads.thenCompose(futures -> CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).handle((ignored, error) -> collect(futures))).thenCombine(warmUp.exceptionally(error -> null), (result, ignored) -> result);
+    }
+
+    private static List<String> expand(String pattern) {
+
+        // Only file and resource paths with wildcards are patterns
+        var wildcard = IntStream.range(0, pattern.length()).filter(i -> "*?[{".indexOf(pattern.charAt(i)) >= 0).findFirst().orElse(-1);
+        if (wildcard < 0 || pattern.startsWith("data:") || pattern.startsWith("http://") || pattern.startsWith("https://")) return List.of(pattern);
+
+        // Split into the directory in front of the first wildcard and the glob below it
+        var directory = pattern.substring(0, Math.max(pattern.lastIndexOf('/', wildcard), pattern.lastIndexOf('\\', wildcard)) + 1);
+        var glob = pattern.substring(directory.length());
+
+        // Existing directories are listed on the file system, everything else on the classpath
+        if (Files.isDirectory(Path.of(directory.isEmpty() ? "." : directory))) return list(Path.of(directory.isEmpty() ? "." : directory), directory, glob);
+        var url = ImageLoader.class.getResource(directory.isEmpty() ? "." : directory);
+        if (url == null) throw new IllegalArgumentException("Resource directory not found: " + directory);
+
+        // Resources inside a jar are listed through a zip file system
+        try {
+            var uri = url.toURI();
+            if (!"jar".equals(uri.getScheme())) return list(Path.of(uri), directory, glob);
+            try (var fileSystem = FileSystems.newFileSystem(uri, Map.of())) {
+                return list(fileSystem.provider().getPath(uri), directory, glob);
+            } catch (FileSystemAlreadyExistsException e) {
+                return list(FileSystems.getFileSystem(uri).provider().getPath(uri), directory, glob);
+            }
+        } catch (URISyntaxException | IOException e) {
+            throw new RuntimeException("Failed to list resources: " + pattern, e);
+        }
+    }
+
+    private static List<String> list(Path root, String directory, String glob) {
+
+        // Match the glob against the path below the root, ** crosses directories
+        var matcher = root.getFileSystem().getPathMatcher("glob:" + glob);
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).map(root::relativize).filter(matcher::matches).map(path -> directory + path.toString().replace(root.getFileSystem().getSeparator(), "/")).sorted().toList();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list directory: " + root, e);
+        }
+    }
+
+    // Reader Methods
+    private ImageInputStream openImageInputStream(Source type, String source) throws IOException {
+        return openImageInputStream(type, source, false);
+    }
+
+    private ImageInputStream openImageInputStream(Source type, String source, boolean shared) throws IOException {
+        return switch (type) {
+
+            // Files are memory-mapped and read without intermediate copies, shared mappings may be read by other threads
+            case FILE -> {
+                var file = new File(source);
+                if (!file.exists()) throw new IllegalArgumentException("File not found: " + source);
+                yield MappedImageInputStream.open(file.toPath(), shared);
+            }
+
+            // Streams are cached in memory instead of temp files
+            case RESOURCE -> {
+                var resource = ImageLoader.class.getResourceAsStream(source);
+                if (resource == null) throw new IOException("Resource not found: " + source);
+                yield wrap(resource);
+            }
+            case URL -> wrap(new ByteArrayInputStream(fetch(type, () -> fetchURL(source))));
+            case BASE64 -> wrap(DataURI.open(source));
+        };
+    }
+
+    private static ImageInputStream wrap(InputStream stream) {
+        return new MemoryCacheImageInputStream(stream) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    stream.close();
+                }
+            }
+        };
+    }
+
+    private static Extension extension(ImageReader reader) {
+
+        // Map the reader's format names to a supported extension
+        var provider = reader.getOriginatingProvider();
+        if (provider != null) for (var name : provider.getFormatNames()) {
+            try {
+                return Extension.fromString(name);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return null;
+    }
+
+    static ImageReader createReader(ImageInputStream input) throws IOException {
+
+        // Peek at the file signature
+        var header = new byte[Extension.SIGNATURE_LENGTH];
+        var length = 0;
+        input.mark();
+        while (length < header.length) {
+            var read = input.read(header, length, header.length - length);
+            if (read < 0) break;
+            length += read;
+        }
+        input.reset();
+
+        // Reuse a pooled reader of the detected format without probing every registered reader
+        try {
+            return CodecPool.getReader(Extension.fromSignature(Arrays.copyOf(header, length)));
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        // Fall back to asking every registered reader
+        var readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) throw new IOException("No ImageReader for source");
+        return readers.next();
+    }
+
+    private static <T> T withReader(ImageInputStream input, boolean seekForwardOnly, ReaderTask<T> task) throws IOException {
+
+        // Find reader for the stream
+        var reader = createReader(input);
+
+        // Run task
+        try {
+            reader.setInput(input, seekForwardOnly, true);
+            return task.apply(reader);
+        } finally {
+            CodecPool.release(reader);
+        }
+    }
+
+    private <T> T withReader(Source type, String source, boolean seekForwardOnly, ReaderTask<T> task) {
+
+        // Open source and run task
+        try (var input = openImageInputStream(type, source)) {
+            return withReader(input, seekForwardOnly, task);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load image from " + (type == Source.BASE64 ? "Base64 string" : type.name().toLowerCase() + ": " + source), e);
+        }
+    }
+
+    static BufferedImage decode(Source type, ImageReader reader, ImageReadParam param) throws IOException {
+
+        // Decode the first image and record how long it took and how many encoded bytes were read
+        var timer = Metrics.getInstance().start(Stage.DECODE);
+        var image = reader.read(0, param);
+        if (image == null) throw new IOException("Failed to decode image");
+        timer.stop(type, extension(reader), reader.getInput() instanceof ImageInputStream input ? input.getStreamPosition() : 0);
+        return image;
+    }
+
+    private BufferedImage read(Source type, String source) {
+        return withReader(type, source, true, reader -> decode(type, reader, null));
+    }
+
+    <T> T read(String source, ReaderTask<T> task) {
+
+        // Validate input
+        var type = Source.detect(source);
+        check(type, source);
+
+        // Run task without caching the result
+        return withReader(type, source, true, task);
+    }
+
+    private static String resolveResource(String resourcePath) {
+
+        // Same rule as Class.getResourceAsStream, relative names are looked up in the package of ImageLoader
+        if (resourcePath.startsWith("/")) return resourcePath;
+        return "/" + ImageLoader.class.getPackageName().replace('.', '/') + "/" + resourcePath;
+    }
+
+    private AssetArchive findArchive(String name) {
+
+        // First archive that contains the resolved resource, null if none does
+        for (var archive : archives) if (archive.contains(name)) return archive;
+        return null;
+    }
+
     private BufferedImage readResource(String resourcePath) {
 
-        // Load image from resource
+        // Packed archives serve resources from their mapping without a classpath lookup
+        var name = resolveResource(resourcePath);
+        var archive = findArchive(name);
+        return archive != null ? archive.get(name) : read(Source.RESOURCE, resourcePath);
+    }
+
+    private static String diskKey(Source type, String source) {
+        return switch (type) {
+
+            // Files are keyed by their state, so changed files miss instead of returning stale pixels
+            case FILE -> {
+                var file = new File(source);
+                yield file.exists() ? "file:" + file.getAbsolutePath() + ":" + file.lastModified() + ":" + file.length() : null;
+            }
+
+            // Resources ship with the application and are not persisted
+            case RESOURCE -> null;
+            case URL -> source;
+            case BASE64 -> DataURI.digest(source);
+        };
+    }
+
+    private BufferedImage readThrough(Source type, String source) {
+
+        // Without a disk tier images are streamed straight from the source
+        var disk = diskCache;
+        var key = disk == null ? null : diskKey(type, source);
+        if (key == null) return read(type, source);
+
+        // Raw pixel dumps skip decoding entirely
+        var image = disk.getImage(key);
+        if (image != null) return image;
+
+        // Decode and keep the pixels for the next start
+        image = read(type, source);
+        disk.putImage(key, image);
+        return image;
+    }
+
+    private BufferedImage readThumbnail(Source type, String source, int maxWidth, int maxHeight) {
+        return withReader(type, source, true, thumbnail(type, maxWidth, maxHeight));
+    }
+
+    private static ReaderTask<BufferedImage> thumbnail(Source type, int maxWidth, int maxHeight) {
+        return reader -> {
+
+            // Read header only
+            var width = reader.getWidth(0);
+            var height = reader.getHeight(0);
+
+            // Fit into the bounding box without upscaling
+            var scale = Math.min(1d, Math.min((double) maxWidth / width, (double) maxHeight / height));
+            var targetWidth = Math.max(1, (int) Math.round(width * scale));
+            var targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+            // Subsample while decoding, keeping at least twice the target size for the final resize
+            var subsampling = Math.max(1, Math.min(width / (targetWidth * 2), height / (targetHeight * 2)));
+            var param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            // Decode subsampled image
+            var image = decode(type, reader, param);
+
+            // Finish with a high quality resize
+            if (image.getWidth() == targetWidth && image.getHeight() == targetHeight) return image;
+            return ImageResizer.resize(image, targetWidth, targetHeight);
+        };
+    }
+
+    private ImageInfo readInfo(Source type, String source) {
+        return withReader(type, source, false, reader -> {
+
+            // Check alpha channel of the raw or first supported image type
+            var imageType = reader.getRawImageType(0);
+            if (imageType == null) imageType = reader.getImageTypes(0).next();
+            var transparent = imageType.getColorModel().hasAlpha();
+
+            // Read header values, counting frames walks the stream without decoding pixels
+            return new ImageInfo(reader.getWidth(0), reader.getHeight(0), extension(reader), Math.max(1, reader.getNumImages(true)), transparent);
+        });
+    }
+
+    // Fetch Methods
+    private byte[] fetchResource(String resourcePath) {
+
+        // Read resource
         try (var resource = ImageLoader.class.getResourceAsStream(resourcePath)) {
 
             // Check if resource exists
             if (resource == null) throw new IOException("Resource not found: " + resourcePath);
 
-            // Parse and return image
-            return ImageIO.read(resource);
+            // Return data
+            return resource.readAllBytes();
 
         } catch (IOException e) {
             throw new RuntimeException("Failed to load image from resource: " + resourcePath, e);
         }
     }
 
-    private BufferedImage readURL(String url) {
+    private byte[] fetchURL(String url) {
 
-        // Load image from URL
-        try (var stream = new URI(url).toURL().openStream()) {
-            return ImageIO.read(stream);
+        // Check disk tier
+        var disk = diskCache;
+        var data = disk == null ? null : disk.get(url);
+        if (data != null) return data;
+
+        // Download data
+        return download(url, null).data();
+    }
+
+    private Download download(String url, Validator validator) {
+
+        // Download data, known validators make it a conditional request
+        Download download;
+        try {
+            download = HttpFetcher.getInstance().fetch(url, validator);
         } catch (IOException | URISyntaxException e) {
             throw new RuntimeException("Failed to load image from URL: " + url, e);
         }
+        if (download.notModified()) return download;
+
+        // Remember validators for the next reload
+        if (download.validator() != null && !download.validator().isEmpty()) validators.put(url, download.validator());
+        else validators.invalidate(url);
+
+        // Replace the disk entry, older pixel dumps are dropped
+        var disk = diskCache;
+        if (disk != null) {
+            disk.remove(url);
+            disk.put(url, download.data());
+        }
+
+        // Return download
+        return download;
     }
 
-    private BufferedImage readFile(String filePath) {
+    private byte[] fetchFile(String filePath) {
 
         // Load image from File
         var file = new File(filePath);
@@ -79,161 +977,508 @@ public class ImageLoader {
         // Check if file exists
         if (!file.exists()) throw new IllegalArgumentException("File not found: " + filePath);
 
+        // Read file
         try {
-            return ImageIO.read(file);
+            return Files.readAllBytes(file.toPath());
         } catch (IOException e) {
             throw new RuntimeException("Failed to load image from file: " + filePath, e);
         }
     }
 
-    private BufferedImage readBase64(byte[] data) {
+    private byte[] fetch(Source type, String source) {
+        return switch (type) {
+            case RESOURCE -> fetchResource(source);
+            case FILE -> fetchFile(source);
+            case URL -> fetchURL(source);
+            case BASE64 -> DataURI.decode(source);
+        };
+    }
 
-        // Validate Base64 data
-        if (data == null || data.length == 0) throw new IllegalArgumentException("Base64 data cannot be null or empty");
+    private static byte[] fetch(Source type, Supplier<byte[]> fetch) {
 
-        // Load image from Base64 data
-        try (var inputStream = new ByteArrayInputStream(data)) {
-            return ImageIO.read(inputStream);
+        // Fetch encoded bytes and record how long it took
+        var timer = Metrics.getInstance().start(Stage.FETCH);
+        var data = fetch.get();
+        timer.stop(type, null, data.length);
+        return data;
+    }
+
+    private BufferedImage decode(Source type, byte[] data, String source) {
+        return decode(data, source, true, reader -> decode(type, reader, null));
+    }
+
+    private static <T> T decode(byte[] data, String source, boolean seekForwardOnly, ReaderTask<T> task) {
+
+        // Validate data
+        if (data == null || data.length == 0) throw new IllegalArgumentException("Image data cannot be null or empty: " + source);
+
+        // Parse image
+        try (var input = wrap(new ByteArrayInputStream(data))) {
+            return withReader(input, seekForwardOnly, task);
         } catch (IOException e) {
-            throw new RuntimeException("Failed to load image from Base64 data", e);
+            throw new RuntimeException("Failed to load image from " + source, e);
         }
     }
 
+    // Load Methods
     public BufferedImage loadResource(String resourcePath) {
 
-        // Check Parameters
-        if (resourcePath == null || resourcePath.isBlank()) throw new IllegalArgumentException("Resource path cannot be null or blank");
+        // Validate input
+        checkResource(resourcePath);
 
-        // Validate image extension
-        if (!isValidImageExtension(resourcePath.substring(resourcePath.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + resourcePath);
+        // Load image or wait for a concurrent load of the same key
+        return load(Source.RESOURCE, resourcePath, () -> readResource(resourcePath));
+    }
 
-        // Check Cache
-        if (cache.containsKey(resourcePath)) return cache.get(resourcePath);
+    public BufferedImage loadURL(String url) {
 
-        // Load image and cache it
-        var image = readResource(resourcePath);
+        // Validate input
+        checkURL(url);
 
-        // Check if image was loaded successfully
-        if (image == null) throw new RuntimeException("Failed to load image from resource: " + resourcePath);
+        // Load image or wait for a concurrent load of the same key
+        return load(Source.URL, url, () -> readThrough(Source.URL, url));
+    }
 
-        // Cache
-        cache.put(resourcePath, image);
+    public BufferedImage loadFile(String filePath) {
 
-        // Return image
-        return image;
+        // Validate input
+        checkFile(filePath);
+
+        // Load image or wait for a concurrent load of the same key
+        return load(Source.FILE, filePath, watched(Source.FILE, filePath, filePath, () -> readThrough(Source.FILE, filePath), reader -> decode(Source.FILE, reader, null)));
     }
 
-    public BufferedImage loadURL(String url) {
+    public BufferedImage loadBase64(String base64) {
 
-        // Check Parameters
-        if (url == null || url.isBlank()) throw new IllegalArgumentException("URL cannot be null or blank");
+        // Validate input
+        checkBase64(base64);
 
-        // Validate image extension
-        if (!isValidImageExtension(url.substring(url.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + url);
+        // Load image or wait for a concurrent load of the same key, the payload is decoded while reading
+        return load(Source.BASE64, DataURI.digest(base64), () -> readThrough(Source.BASE64, base64));
+    }
+
+    // Probe Methods
+    public ImageInfo probe(String source) {
+
+        // Validate input
+        var type = Source.detect(source);
+        check(type, source);
 
         // Check Cache
-        if (cache.containsKey(url)) return cache.get(url);
+        var key = key(type, source);
+        var info = infoCache.getIfPresent(key);
+        if (info != null) return info;
+
+        // Read header and cache it
+        info = readInfo(type, source);
+        infoCache.put(key, info);
 
-        // Load image and cache it
-        var image = readURL(url);
+        // Return info
+        return info;
+    }
 
-        // Check if image was loaded successfully
-        if (image == null) throw new RuntimeException("Failed to load image from URL: " + url);
+    // Region Methods
+    public BufferedImage loadRegion(String source, Rectangle region) {
 
-        // Cache
-        cache.put(url, image);
+        // Check Parameters
+        if (region == null || region.isEmpty()) throw new IllegalArgumentException("Region cannot be null or empty");
 
-        // Return image
-        return image;
+        // Validate input
+        var type = Source.detect(source);
+        check(type, source);
+
+        // Regions are cached under their own key
+        var key = "region:" + region.x + "," + region.y + "," + region.width + "x" + region.height + ":" + key(type, source);
+        ReaderTask<BufferedImage> task = reader -> TileReader.readRegion(reader, region);
+        return load(type, key, watched(type, source, key, () -> withReader(type, source, false, task), task));
     }
 
-    public BufferedImage loadFile(String filePath) {
+    public TileReader openTiles(String source, int tileWidth, int tileHeight) {
+
+        // Validate input
+        var type = Source.detect(source);
+        check(type, source);
+
+        // The tile reader keeps the ImageReader open until it is closed
+        try {
+            return new TileReader(openImageInputStream(type, source, true), tileWidth, tileHeight);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open tiles from " + type.name().toLowerCase() + ": " + source, e);
+        }
+    }
+
+    public List<Tile> loadTiles(String source, int tileWidth, int tileHeight) {
+
+        // Validate input
+        var type = Source.detect(source);
+        check(type, source);
+
+        // Stream sources are fetched once and shared, files are mapped by every worker
+        var data = type == Source.FILE ? null : fetch(type, source);
+        Callable<ImageInputStream> opener = () -> data == null ? MappedImageInputStream.open(Path.of(source)) : new MappedImageInputStream(ByteBuffer.wrap(data));
+
+        // Read tile grid
+        int columns, rows;
+        try (var tiles = new TileReader(opener.call(), tileWidth, tileHeight)) {
+            columns = tiles.getColumns();
+            rows = tiles.getRows();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read tiles from " + type.name().toLowerCase() + ": " + source, e);
+        }
+
+        // Split rows into bands, each band reuses one reader
+        var bands = Math.min(rows, ForkJoinPool.getCommonPoolParallelism());
+        return IntStream.range(0, bands).parallel().mapToObj(band -> {
+            try (var tiles = new TileReader(opener.call(), tileWidth, tileHeight)) {
+
+                // Read all tiles of the band in row-major order
+                var result = new ArrayList<Tile>();
+                for (var row = band * rows / bands; row < (band + 1) * rows / bands; row++) for (var column = 0; column < columns; column++) result.add(tiles.readTile(column, row));
+                return result;
+
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to read tiles from " + type.name().toLowerCase() + ": " + source, e);
+            }
+        }).flatMap(List::stream).toList();
+    }
+
+    // Thumbnail Methods
+    public BufferedImage loadThumbnail(String source, int maxWidth, int maxHeight) {
 
         // Check Parameters
-        if (filePath == null || filePath.isBlank()) throw new IllegalArgumentException("File path cannot be null or blank");
+        if (maxWidth <= 0 || maxHeight <= 0) throw new IllegalArgumentException("Width and height must be positive values");
 
-        // Validate image extension
-        if (!isValidImageExtension(filePath.substring(filePath.lastIndexOf(".") + 1))) throw new IllegalArgumentException("Unsupported image format: " + filePath);
+        // Validate input
+        var type = Source.detect(source);
+        check(type, source);
 
-        // Check Cache
-        if (cache.containsKey(filePath)) return cache.get(filePath);
+        // Thumbnails are cached under their own key
+        var key = "thumbnail:" + maxWidth + "x" + maxHeight + ":" + key(type, source);
+        return load(type, key, watched(type, source, key, () -> readThumbnail(type, source, maxWidth, maxHeight), thumbnail(type, maxWidth, maxHeight)));
+    }
 
-        // Load image and cache it
-        var image = readFile(filePath);
+    public BufferedImage loadThumbnail(String source, int maxSize) {
+        return loadThumbnail(source, maxSize, maxSize);
+    }
 
-        // Check if image was loaded successfully
-        if (image == null) throw new RuntimeException("Failed to load image from file: " + filePath);
+    // View Methods
+    public PixelView loadView(String source) {
 
-        // Cache
-        cache.put(filePath, image);
+        // Validate input
+        var type = Source.detect(source);
+        check(type, source);
 
-        // Return image
-        return image;
+        // Cached native pixels are shared without copying them
+        var key = key(type, source);
+        var view = acquire(key);
+        if (view != null) {
+            Metrics.getInstance().recordHit(type);
+            return view;
+        }
+
+        // Load through the cache, images kept on the heap are copied into a view of their own
+        var image = switch (type) {
+            case RESOURCE -> loadResource(source);
+            case FILE -> loadFile(source);
+            case URL -> loadURL(source);
+            case BASE64 -> loadBase64(source);
+        };
+        view = acquire(key);
+        return view != null ? view : PixelView.of(image);
     }
 
-    public BufferedImage loadBase64(String base64) {
+    // Async Load Methods
+    public CompletableFuture<BufferedImage> loadResourceAsync(String resourcePath) {
+        checkResource(resourcePath);
+
+        // Packed archives fault their pages in on the I/O executor and copy the pixels on the CPU pool
+        var name = resolveResource(resourcePath);
+        var archive = findArchive(name);
+        if (archive != null) return submit(Source.RESOURCE, resourcePath, () -> archive.read(name), data -> archive.get(name, data));
+        return submit(Source.RESOURCE, resourcePath, () -> fetchResource(resourcePath), "resource: " + resourcePath);
+    }
+
+    public CompletableFuture<BufferedImage> loadURLAsync(String url) {
+        checkURL(url);
+        return submit(Source.URL, url, () -> fetchURL(url), "URL: " + url);
+    }
+
+    public CompletableFuture<BufferedImage> loadFileAsync(String filePath) {
+        checkFile(filePath);
+        return submit(Source.FILE, filePath, () -> {
+            watch(filePath, filePath, reader -> decode(Source.FILE, reader, null));
+            return fetchFile(filePath);
+        }, "file: " + filePath);
+    }
+
+    public CompletableFuture<BufferedImage> loadBase64Async(String base64) {
+        checkBase64(base64);
+        return submit(Source.BASE64, DataURI.digest(base64), () -> DataURI.decode(base64), "Base64 string");
+    }
+
+    public CompletableFuture<BufferedImage> loadAsync(String source) {
+        return switch (Source.detect(source)) {
+            case RESOURCE -> loadResourceAsync(source);
+            case FILE -> loadFileAsync(source);
+            case URL -> loadURLAsync(source);
+            case BASE64 -> loadBase64Async(source);
+        };
+    }
+
+    public BatchResult<BufferedImage> loadAll(Collection<String> sources) {
 
         // Check Parameters
-        if (base64 == null || base64.isBlank()) throw new IllegalArgumentException("Base64 string cannot be null or blank");
+        if (sources == null) throw new IllegalArgumentException("Sources cannot be null");
 
-        // Validate Base64 format
-        if (!base64.startsWith("data:image/") || !base64.contains(";base64,")) throw new IllegalArgumentException("Invalid Base64 image format - expected format: data:image/{extension};base64,{data}");
+        // Start all loads and wait for them
+        return collect(start(sources));
+    }
 
-        // Validate image extension
-        var extensionPart = base64.substring("data:image/".length(), base64.indexOf(";base64")).toLowerCase();
-        if (!isValidImageExtension(extensionPart)) throw new IllegalArgumentException("Unsupported image format in Base64 string: " + extensionPart);
+    // Preload Methods
+    public synchronized CompletableFuture<Void> warmUp() {
 
-        // Extract the actual Base64 data
-        var base64Data = base64.substring(base64.indexOf(",") + 1);
+        // Register the ImageIO plugins and prepare the codecs once in the background, a failed warm-up is tried again
+        if (warmUp == null || warmUp.isCompletedExceptionally()) warmUp = LoadExecutor.getInstance().decode(() -> {
+            CodecPool.warmUp();
+            return null;
+        });
+        return warmUp;
+    }
 
-        // Check Cache
-        if (cache.containsKey(base64)) return cache.get(base64);
+    public CompletableFuture<BatchResult<BufferedImage>> preload(String... sources) {
+
+        // Check Parameters
+        if (sources == null) throw new IllegalArgumentException("Sources cannot be null");
 
-        // Load image and cache it
-        var image = readBase64(base64Decoder.decode(base64Data));
+        // Preload sources
+        return preload(List.of(sources));
+    }
 
-        // Check if image was loaded successfully
-        if (image == null) throw new RuntimeException("Failed to load image from Base64 string");
+    public CompletableFuture<BatchResult<BufferedImage>> preload(Collection<String> sources) {
 
-        // Cache
-        cache.put(base64, image);
+        // Check Parameters
+        if (sources == null) throw new IllegalArgumentException("Sources cannot be null");
 
-        // Return image
-        return image;
+        // Expand patterns and load everything in the background
+        var list = List.copyOf(sources);
+        return preload(() -> list);
+    }
+
+    public CompletableFuture<BatchResult<BufferedImage>> preloadManifest(String manifest) {
+
+        // Check Parameters
+        if (manifest == null || manifest.isBlank()) throw new IllegalArgumentException("Manifest cannot be null or blank");
+
+        // One source or pattern per line, blank lines and comments are skipped
+        return preload(() -> new String(fetch(Source.detect(manifest), manifest), UTF_8).lines().map(String::strip).filter(line -> !line.isEmpty() && !line.startsWith("#")).toList());
     }
 
     // Reload Methods
     public BufferedImage reloadResource(String resourcePath) {
-        cache.remove(resourcePath);
+        invalidate(resourcePath);
         return loadResource(resourcePath);
     }
 
     public BufferedImage reloadURL(String url) {
-        cache.remove(url);
+
+        // Revalidate a cached image instead of downloading it again
+        checkURL(url);
+        var image = lookup(url);
+        var validator = validators.getIfPresent(url);
+        if (image != null && validator != null) {
+
+            // Not modified keeps the cached image
+            var download = download(url, validator);
+            if (download.notModified()) return image;
+
+            // Replace the cached image with the new version
+            infoCache.invalidate(url);
+            image = decode(Source.URL, download.data(), "URL: " + url);
+            store(url, image);
+            var disk = diskCache;
+            if (disk != null) disk.putImage(url, image);
+            return image;
+        }
+
+        // Without validators the image is downloaded again
+        invalidate(url);
+        validators.invalidate(url);
+        var disk = diskCache;
+        if (disk != null) disk.remove(url);
         return loadURL(url);
     }
 
     public BufferedImage reloadFile(String filePath) {
-        cache.remove(filePath);
+        invalidate(filePath);
         return loadFile(filePath);
     }
 
     public BufferedImage reloadBase64(String base64) {
-        cache.remove(base64);
+        checkBase64(base64);
+        invalidate(DataURI.digest(base64));
         return loadBase64(base64);
     }
 
     // Setter
     public void clear() {
-        cache.clear();
+        unwatchAll();
+        cache.invalidateAll();
+        var views = offHeapCache;
+        if (views != null) clear(views);
+        var cold = coldCache;
+        if (cold != null) cold.invalidateAll();
+        infoCache.invalidateAll();
+        validators.invalidateAll();
+        archives.forEach(this::removeArchive);
+    }
+
+    public void setStrict(boolean strict) {
+        this.strict = strict;
+    }
+
+    public void setDiskCache(DiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    public synchronized void setWatchMode(WatchMode watchMode) {
+
+        // Check Parameters
+        if (watchMode == null) throw new IllegalArgumentException("Watch mode cannot be null");
+
+        // Files are registered by the next read, turning it off stops watching them
+        this.watchMode = watchMode;
+        if (watchMode == WatchMode.OFF) unwatchAll();
+    }
+
+    public void addArchive(AssetArchive archive) {
+        if (archive == null) throw new IllegalArgumentException("Archive cannot be null");
+        archives.addIfAbsent(archive);
+    }
+
+    public void removeArchive(AssetArchive archive) {
+
+        // Added archives belong to the loader, removing one unmaps it so the file can be replaced
+        if (archives.remove(archive)) archive.close();
+    }
+
+    public synchronized void setCachePolicy(CachePolicy cachePolicy) {
+
+        // Check Parameters
+        if (cachePolicy == null) throw new IllegalArgumentException("Cache policy cannot be null");
+
+        // Block stores while the caches are swapped, loads finishing in between would be lost otherwise
+        var lock = swapLock.writeLock();
+        lock.lock();
+        try {
+
+            // Build the cold tier first, entries that do not fit into the new hot tier are demoted into it
+            var oldCold = coldCache;
+            var newCold = cachePolicy.hasColdTier() ? buildColdCache(cachePolicy) : null;
+            if (newCold != null && oldCold != null) newCold.putAll(oldCold.asMap());
+            coldCache = newCold;
+            if (oldCold != null) oldCold.invalidateAll();
+
+            // Build new caches and carry over the current entries
+            var newCache = buildCache(cachePolicy);
+            var newViews = cachePolicy.storage() == Storage.OFF_HEAP ? buildOffHeapCache(cachePolicy) : null;
+            for (var entry : cache.asMap().entrySet()) {
+                var view = newViews == null ? null : PixelView.copyOf(entry.getValue());
+                if (view == null) newCache.put(entry.getKey(), entry.getValue());
+                else put(newViews, entry.getKey(), view);
+            }
+
+            // Native pixels are handed over as they are, or copied back to the heap
+            var oldViews = offHeapCache;
+            if (oldViews != null) oldViews.asMap().forEach((key, view) -> {
+                if (!oldViews.asMap().remove(key, view)) return;
+                if (newViews != null) put(newViews, key, view);
+                else try (view) {
+                    newCache.put(key, view.toBufferedImage());
+                }
+            });
+
+            // Swap caches
+            var oldCache = cache;
+            this.cachePolicy = cachePolicy;
+            pressured = false;
+            cache = newCache;
+            offHeapCache = newViews;
+            oldCache.invalidateAll();
+            if (oldViews != null) clear(oldViews);
+
+            // Heap pressure shrinks the hot tier, the monitor is only started once a cold tier is used
+            if (newCold != null && !monitored) {
+                HeapMonitor.getInstance().addListener(this::relieve);
+                monitored = true;
+            }
+
+        } finally {
+            lock.unlock();
+        }
     }
 
     // Getter
     public int size() {
-        return cache.size();
+        cache.cleanUp();
+        var views = offHeapCache;
+        if (views == null) return (int) cache.estimatedSize();
+        views.cleanUp();
+        return (int) (cache.estimatedSize() + views.estimatedSize());
     }
 
     public boolean isEmpty() {
-        return cache.isEmpty();
+        return size() == 0;
+    }
+
+    public long getWeight() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElseGet(() -> cache.asMap().values().stream().mapToLong(ImageLoader::weigh).sum()) + getOffHeapWeight();
+    }
+
+    public long getOffHeapWeight() {
+        var views = offHeapCache;
+        if (views == null) return 0;
+        return views.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElseGet(() -> views.asMap().values().stream().mapToLong(PixelView::getByteSize).sum());
+    }
+
+    public int getColdSize() {
+        var cold = coldCache;
+        if (cold == null) return 0;
+        cold.cleanUp();
+        return (int) cold.estimatedSize();
+    }
+
+    public long getColdWeight() {
+        var cold = coldCache;
+        if (cold == null) return 0;
+        return cold.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    public long getEvictionCount() {
+        var views = offHeapCache;
+        return cache.stats().evictionCount() + (views == null ? 0 : views.stats().evictionCount());
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    public DiskCache getDiskCache() {
+        return diskCache;
+    }
+
+    public WatchMode getWatchMode() {
+        return watchMode;
+    }
+
+    public List<AssetArchive> getArchives() {
+        return List.copyOf(archives);
+    }
+
+    public CachePolicy getCachePolicy() {
+        return cachePolicy;
     }
 }
\ No newline at end of file
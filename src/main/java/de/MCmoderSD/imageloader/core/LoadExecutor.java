@@ -0,0 +1,97 @@
+package de.MCmoderSD.imageloader.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@SuppressWarnings("unused")
+public class LoadExecutor {
+
+    // Constants
+    public static final int DEFAULT_CONCURRENCY = 64;
+
+    // Singleton instance
+    private static LoadExecutor instance;
+
+    // Attributes
+    private final ExecutorService decodeExecutor;
+
+    // Variables
+    private volatile Executor fetchExecutor;
+    private volatile Semaphore permits;
+    private volatile int concurrency;
+
+    // Constructor
+    private LoadExecutor() {
+
+        // Blocking I/O runs on virtual threads
+        fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        concurrency = DEFAULT_CONCURRENCY;
+        permits = new Semaphore(concurrency);
+
+        // Decoding is CPU bound and gets one platform thread per core
+        decodeExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), Thread.ofPlatform().name("ImageLoader-Decoder-", 0).daemon().factory());
+    }
+
+    // Get Singleton Instance
+    public static synchronized LoadExecutor getInstance() {
+        if (instance == null) instance = new LoadExecutor();
+        return instance;
+    }
+
+    // Submit Methods
+    public <T> CompletableFuture<T> submit(Supplier<byte[]> fetch, Function<byte[], T> decode) {
+
+        // Check Parameters
+        if (fetch == null || decode == null) throw new IllegalArgumentException("Fetch and decode functions cannot be null");
+
+        // Fetch on the I/O executor within the concurrency limit, then decode on the CPU pool
+        var semaphore = permits;
+        return CompletableFuture.supplyAsync(() -> {
+            semaphore.acquireUninterruptibly();
+            try {
+                return fetch.get();
+            } finally {
+                semaphore.release();
+            }
+        }, fetchExecutor).thenApplyAsync(decode, decodeExecutor);
+    }
+
+    public <T> CompletableFuture<T> decode(Supplier<T> decode) {
+
+        // Check Parameters
+        if (decode == null) throw new IllegalArgumentException("Decode function cannot be null");
+
+        // Decode on the CPU pool
+        return CompletableFuture.supplyAsync(decode, decodeExecutor);
+    }
+
+    // Setter
+    public void setExecutor(Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("Executor cannot be null");
+        fetchExecutor = executor;
+    }
+
+    public synchronized void setConcurrency(int concurrency) {
+        if (concurrency <= 0) throw new IllegalArgumentException("Concurrency must be a positive value");
+        this.concurrency = concurrency;
+        permits = new Semaphore(concurrency);
+    }
+
+    // Getter
+    public Executor getExecutor() {
+        return fetchExecutor;
+    }
+
+    public Executor getDecodeExecutor() {
+        return decodeExecutor;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
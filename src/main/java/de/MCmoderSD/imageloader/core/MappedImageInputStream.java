@@ -0,0 +1,121 @@
+package de.MCmoderSD.imageloader.core;
+
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageInputStreamImpl;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+@SuppressWarnings("unused")
+public class MappedImageInputStream extends ImageInputStreamImpl {
+
+    // Constants
+    public static final int MAP_THRESHOLD = 64 * 1024;
+
+    // Attributes
+    private final MemorySegment segment;
+    private final Arena arena;
+
+    // Variables
+    private boolean closed;
+
+    // Constructor
+    public MappedImageInputStream(ByteBuffer buffer) {
+
+        // Check Parameters
+        if (buffer == null) throw new IllegalArgumentException("Buffer cannot be null");
+
+        // Independent view, the caller's position and limit stay untouched
+        segment = MemorySegment.ofBuffer(buffer.slice());
+        arena = null;
+    }
+
+    private MappedImageInputStream(MemorySegment segment, Arena arena) {
+        this.segment = segment;
+        this.arena = arena;
+    }
+
+    // Factory Methods
+    public static ImageInputStream open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    public static ImageInputStream open(Path path, boolean shared) throws IOException {
+
+        // Check Parameters
+        if (path == null) throw new IllegalArgumentException("Path cannot be null");
+
+        try (var channel = FileChannel.open(path, READ)) {
+            var size = channel.size();
+
+            // Small files are cheaper to read at once than to map
+            if (size < MAP_THRESHOLD) return new MappedImageInputStream(ByteBuffer.wrap(Files.readAllBytes(path)));
+
+            // Map the whole file, closing the stream unmaps it, so the file is not locked until the next collection
+            var arena = shared ? Arena.ofShared() : Arena.ofConfined();
+            try {
+                return new MappedImageInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena), arena);
+            } catch (IOException | RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+        }
+    }
+
+    // Read Methods
+    @Override
+    public int read() throws IOException {
+        checkClosed();
+        bitOffset = 0;
+        if (streamPos >= segment.byteSize()) return -1;
+        return segment.get(ValueLayout.JAVA_BYTE, streamPos++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+
+        // Check Parameters
+        checkClosed();
+        if (bytes == null) throw new NullPointerException("Byte array cannot be null");
+        if (offset < 0 || length < 0 || offset + length > bytes.length || offset + length < 0) throw new IndexOutOfBoundsException("Invalid offset or length");
+        bitOffset = 0;
+        if (length == 0) return 0;
+
+        // Copy straight out of the mapping
+        if (streamPos >= segment.byteSize()) return -1;
+        var count = (int) Math.min(length, segment.byteSize() - streamPos);
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, streamPos, bytes, offset, count);
+        streamPos += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        // Closing twice must not close the arena twice
+        if (closed) return;
+        closed = true;
+        try {
+            super.close();
+        } finally {
+            if (arena != null) arena.close();
+        }
+    }
+
+    // Getter
+    @Override
+    public long length() {
+        return segment.byteSize();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
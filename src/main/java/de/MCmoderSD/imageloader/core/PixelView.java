@@ -0,0 +1,198 @@
+package de.MCmoderSD.imageloader.core;
+
+import de.MCmoderSD.imageloader.tools.Rasters;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.awt.image.BufferedImage.*;
+
+@SuppressWarnings("unused")
+public final class PixelView implements AutoCloseable {
+
+    // Constants
+    private static final ValueLayout.OfInt PIXEL = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    // Native pixels shared by all views, freed when the last view is closed
+    private static final class Block {
+
+        // Attributes
+        private final Arena arena;
+        private final MemorySegment segment;
+        private final AtomicInteger references;
+
+        // Constructor
+        private Block(long size) {
+            arena = Arena.ofShared();
+            segment = arena.allocate(size, Long.BYTES);
+            references = new AtomicInteger(1);
+        }
+
+        // Reference Methods
+        private boolean retain() {
+            for (var count = references.get(); count > 0; count = references.get()) if (references.compareAndSet(count, count + 1)) return true;
+            return false;
+        }
+
+        private void release() {
+
+            // Closing fails while a bulk copy through an escaped segment is still running, it is retried once the copy is done
+            if (references.decrementAndGet() != 0) return;
+            while (true) {
+                try {
+                    arena.close();
+                    return;
+                } catch (IllegalStateException e) {
+                    if (!arena.scope().isAlive()) return;
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    // Attributes
+    private final int width;
+    private final int height;
+    private final int type;
+    private final Block block;
+    private final AtomicBoolean closed;
+
+    // Constructor
+    private PixelView(int width, int height, int type, Block block) {
+        this.width = width;
+        this.height = height;
+        this.type = type;
+        this.block = block;
+        closed = new AtomicBoolean();
+    }
+
+    // Factory Methods
+    public static PixelView of(BufferedImage image) {
+
+        // Check Parameters
+        if (image == null) throw new IllegalArgumentException("Image cannot be null");
+
+        // Standard layouts are copied as they are, everything else as packed ARGB
+        var view = copyOf(image);
+        if (view != null) return view;
+        var converted = new BufferedImage(image.getWidth(), image.getHeight(), TYPE_INT_ARGB);
+        var g = converted.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return copyOf(converted);
+    }
+
+    static PixelView copyOf(BufferedImage image) {
+
+        // Layouts that cannot be rebuilt from their type alone stay on the heap
+        var buffer = Rasters.standard(image);
+        if (buffer == null) return null;
+
+        // Copy the raster into native memory, ints are stored little-endian
+        var view = allocate(image.getWidth(), image.getHeight(), image.getType());
+        var segment = view.block.segment;
+        switch (buffer) {
+            case DataBufferInt ints -> MemorySegment.copy(ints.getData(), 0, segment, PIXEL, 0, ints.getSize());
+            case DataBufferByte bytes -> MemorySegment.copy(bytes.getData(), 0, segment, ValueLayout.JAVA_BYTE, 0, bytes.getSize());
+            default -> throw new IllegalStateException("Unsupported data buffer: " + buffer);
+        }
+        return view;
+    }
+
+    static PixelView allocate(int width, int height, int type) {
+
+        // Raster size of the standard layout
+        var bytes = switch (type) {
+            case TYPE_INT_RGB, TYPE_INT_ARGB, TYPE_INT_ARGB_PRE, TYPE_INT_BGR -> Integer.BYTES;
+            case TYPE_3BYTE_BGR -> 3;
+            case TYPE_4BYTE_ABGR, TYPE_4BYTE_ABGR_PRE -> 4;
+            case TYPE_BYTE_GRAY -> 1;
+            default -> throw new IllegalArgumentException("Unsupported image type: " + type);
+        };
+        return new PixelView(width, height, type, new Block((long) width * height * bytes));
+    }
+
+    // Reference Methods
+    public PixelView acquire() {
+
+        // Another view on the same pixels for another owner, null once they have been freed
+        return !closed.get() && block.retain() ? new PixelView(width, height, type, block) : null;
+    }
+
+    MemorySegment segment() {
+        return block.segment;
+    }
+
+    @Override
+    public void close() {
+
+        // Closing twice must not release the pixels of another view
+        if (closed.compareAndSet(false, true)) block.release();
+    }
+
+    // Copy Methods
+    public BufferedImage toBufferedImage() {
+        return copyTo(new BufferedImage(width, height, type));
+    }
+
+    public BufferedImage copyTo(BufferedImage target) {
+
+        // Check Parameters
+        if (closed.get()) throw new IllegalStateException("Pixel view is closed");
+        if (target == null) throw new IllegalArgumentException("Target cannot be null");
+        if (target.getWidth() != width || target.getHeight() != height || target.getType() != type) throw new IllegalArgumentException("Target must be a " + width + "x" + height + " image of type " + type);
+        var buffer = Rasters.standard(target);
+        if (buffer == null) throw new IllegalArgumentException("Target must have a standard raster layout");
+
+        // Hold a reference while copying, so closing the view on another thread cannot free the pixels underneath
+        if (!block.retain()) throw new IllegalStateException("Pixel view is closed");
+        try {
+
+            // Copy out of native memory, pooled targets avoid the allocation
+            switch (buffer) {
+                case DataBufferInt ints -> MemorySegment.copy(block.segment, PIXEL, 0, ints.getData(), 0, ints.getSize());
+                case DataBufferByte bytes -> MemorySegment.copy(block.segment, ValueLayout.JAVA_BYTE, 0, bytes.getData(), 0, bytes.getSize());
+                default -> throw new IllegalStateException("Unsupported data buffer: " + buffer);
+            }
+            return target;
+
+        } finally {
+            block.release();
+        }
+    }
+
+    // Getter
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public long getByteSize() {
+        return block.segment.byteSize();
+    }
+
+    public MemorySegment getSegment() {
+
+        // The segment belongs to this view and is only valid until it is closed, other threads acquire a view of their own
+        if (closed.get()) throw new IllegalStateException("Pixel view is closed");
+        return block.segment.asReadOnly();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+}
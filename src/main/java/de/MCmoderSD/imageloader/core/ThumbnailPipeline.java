@@ -0,0 +1,261 @@
+package de.MCmoderSD.imageloader.core;
+
+import de.MCmoderSD.imageloader.enums.Source;
+import de.MCmoderSD.imageloader.objects.PipelineReport;
+import de.MCmoderSD.imageloader.objects.Rendition;
+import de.MCmoderSD.imageloader.tools.DataURI;
+import de.MCmoderSD.imageloader.tools.ImageEncoder;
+import de.MCmoderSD.imageloader.tools.ImageResizer;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@SuppressWarnings("unused")
+public class ThumbnailPipeline {
+
+    // Attributes
+    private final List<Rendition> renditions;
+
+    // Constructor
+    public ThumbnailPipeline(Rendition... renditions) {
+        this(renditions == null ? null : List.of(renditions));
+    }
+
+    public ThumbnailPipeline(List<Rendition> renditions) {
+
+        // Check Parameters
+        if (renditions == null || renditions.isEmpty()) throw new IllegalArgumentException("Renditions cannot be null or empty");
+
+        // Largest renditions first, so smaller ones can reuse their results
+        this.renditions = renditions.stream().sorted(Comparator.comparingLong((Rendition rendition) -> (long) rendition.maxWidth() * rendition.maxHeight()).reversed()).toList();
+    }
+
+    // Helper Methods
+    private static BufferedImage flatten(BufferedImage image) {
+
+        // Formats without alpha get a white background
+        var flattened = new BufferedImage(image.getWidth(), image.getHeight(), TYPE_INT_RGB);
+        var g = flattened.createGraphics();
+        g.drawImage(image, 0, 0, Color.WHITE, null);
+        g.dispose();
+        return flattened;
+    }
+
+    private static String stem(String source) {
+
+        // Data URIs are named by their digest
+        if (Source.detect(source) == Source.BASE64) return DataURI.digest(source).substring("base64:".length(), "base64:".length() + 16);
+
+        // Last path segment without query, the source extension is kept so sample.png and sample.jpg do not collide
+        var name = source.replaceAll("[?#].*$", "");
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1).replaceAll("[^A-Za-z0-9_-]", "_");
+        return name.isBlank() ? "image" : name;
+    }
+
+    private static String qualify(String stem, String source) {
+
+        // Short digest of the full source, stable across runs
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(UTF_8));
+            return stem + "-" + HexFormat.of().formatHex(digest, 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 digest", e);
+        }
+    }
+
+    private static LinkedHashMap<String, String> stems(Collection<String> sources) {
+
+        // Invalid sources get no name, they fail when they are decoded and are reported like any other failure
+        var names = new LinkedHashMap<String, String>();
+        for (var source : sources) {
+            try {
+                names.putIfAbsent(source, stem(source));
+            } catch (IllegalArgumentException e) {
+                names.putIfAbsent(source, null);
+            }
+        }
+
+        // Count stems case-insensitively, some file systems do not tell a.png and A.png apart
+        var counts = new HashMap<String, Integer>();
+        for (var stem : names.values()) if (stem != null) counts.merge(stem.toLowerCase(Locale.ROOT), 1, Integer::sum);
+
+        // Same-named sources from different directories or hosts get a digest of their full source
+        var stems = new LinkedHashMap<String, String>();
+        var taken = new HashSet<String>();
+        for (var entry : names.entrySet()) {
+            var source = entry.getKey();
+            var stem = entry.getValue();
+            if (stem == null) {
+                stems.put(source, null);
+                continue;
+            }
+            if (counts.get(stem.toLowerCase(Locale.ROOT)) > 1) stem = qualify(stem, source);
+            if (!taken.add(stem.toLowerCase(Locale.ROOT))) throw new IllegalArgumentException("Output names collide for source: " + source);
+            stems.put(source, stem);
+        }
+        return stems;
+    }
+
+    private static BufferedImage prepare(Rendition rendition, BufferedImage image) {
+        return image.getColorModel().hasAlpha() && !rendition.extension().isTransparent() ? flatten(image) : image;
+    }
+
+    // Render Methods
+    public LinkedHashMap<Rendition, BufferedImage> render(String source) {
+
+        // Decode once, subsampled to just above the largest rendition
+        record Decoded(BufferedImage image, int width, int height) {
+        }
+        var decoded = ImageLoader.getInstance().read(source, reader -> {
+
+            // Read header only
+            var width = reader.getWidth(0);
+            var height = reader.getHeight(0);
+            var largest = renditions.stream().map(rendition -> rendition.fit(width, height)).reduce((a, b) -> a.width * a.height >= b.width * b.height ? a : b).orElseThrow();
+
+            // Subsample while decoding, keeping at least twice the largest target for the final resize
+            var subsampling = Math.max(1, Math.min(width / (largest.width * 2), height / (largest.height * 2)));
+            var param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            // Decode subsampled image
+            return new Decoded(ImageLoader.decode(Source.detect(source), reader, param), width, height);
+        });
+        var image = decoded.image();
+        var width = decoded.width();
+        var height = decoded.height();
+
+        // Every rendition is resized from the smallest intermediate that is still large enough
+        var intermediates = new ArrayList<BufferedImage>(List.of(image));
+        var results = new LinkedHashMap<Rendition, BufferedImage>();
+        for (var rendition : renditions) {
+            var target = rendition.fit(width, height);
+            var base = image;
+            for (var intermediate : intermediates) if (intermediate.getWidth() >= target.width && intermediate.getHeight() >= target.height && (long) intermediate.getWidth() * intermediate.getHeight() < (long) base.getWidth() * base.getHeight()) base = intermediate;
+            var result = base.getWidth() == target.width && base.getHeight() == target.height ? base : ImageResizer.resize(base, target.width, target.height);
+            intermediates.add(result);
+            results.put(rendition, result);
+        }
+
+        // Return renditions
+        return results;
+    }
+
+    public LinkedHashMap<Rendition, byte[]> process(String source) {
+
+        // Render and encode every rendition
+        var encoded = new LinkedHashMap<Rendition, byte[]>();
+        render(source).forEach((rendition, image) -> encoded.put(rendition, ImageEncoder.encode(prepare(rendition, image), rendition.extension(), rendition.quality())));
+        return encoded;
+    }
+
+    public List<Path> process(String source, Path outputDirectory) {
+        return process(source, outputDirectory, stem(source));
+    }
+
+    private List<Path> process(String source, Path outputDirectory, String stem) {
+
+        // Check Parameters
+        if (outputDirectory == null) throw new IllegalArgumentException("Output directory cannot be null");
+
+        // Stream every rendition straight into its file
+        var paths = new ArrayList<Path>();
+        render(source).forEach((rendition, image) -> {
+            var path = outputDirectory.resolve(stem + "-" + rendition.name() + "." + rendition.extension().getExtension());
+            try (var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                ImageEncoder.encode(prepare(rendition, image), rendition.extension(), rendition.quality(), channel);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write rendition: " + path, e);
+            }
+            paths.add(path);
+        });
+
+        // Return written files
+        return paths;
+    }
+
+    // Batch Methods
+    public PipelineReport run(Collection<String> sources, Path outputDirectory) {
+
+        // Check Parameters
+        if (sources == null) throw new IllegalArgumentException("Sources cannot be null");
+        if (outputDirectory == null) throw new IllegalArgumentException("Output directory cannot be null");
+        try {
+            Files.createDirectories(outputDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create output directory: " + outputDirectory, e);
+        }
+
+        // Output names are fixed up front, so no source overwrites the renditions of another
+        var stems = stems(sources);
+
+        // Every source runs on the CPU pool, so only one decoded image per core is alive at a time
+        var start = System.nanoTime();
+        var executor = LoadExecutor.getInstance();
+        var futures = new LinkedHashMap<String, CompletableFuture<List<Path>>>();
+        stems.forEach((source, stem) -> futures.put(source, executor.decode(() -> process(source, outputDirectory, stem))));
+
+        // Wait for all sources and collect the results per source
+        var outputs = new LinkedHashMap<String, List<Path>>();
+        var failures = new LinkedHashMap<String, Throwable>();
+        var bytes = 0L;
+        for (var entry : futures.entrySet()) {
+            try {
+                var paths = entry.getValue().join();
+                outputs.put(entry.getKey(), paths);
+                for (var path : paths) bytes += Files.size(path);
+            } catch (CompletionException e) {
+                failures.put(entry.getKey(), e.getCause() != null ? e.getCause() : e);
+            } catch (CancellationException | IOException e) {
+                failures.put(entry.getKey(), e);
+            }
+        }
+
+        // Return report
+        return new PipelineReport(outputs, failures, bytes, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    public PipelineReport run(Path inputDirectory, Path outputDirectory) {
+
+        // Check Parameters
+        if (inputDirectory == null || !Files.isDirectory(inputDirectory)) throw new IllegalArgumentException("Input directory not found: " + inputDirectory);
+
+        // Process every regular file of the directory
+        try (Stream<Path> files = Files.list(inputDirectory)) {
+            return run(files.filter(Files::isRegularFile).sorted().map(path -> path.toAbsolutePath().toString()).toList(), outputDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list input directory: " + inputDirectory, e);
+        }
+    }
+
+    // Getter
+    public List<Rendition> getRenditions() {
+        return renditions;
+    }
+}
@@ -0,0 +1,173 @@
+package de.MCmoderSD.imageloader.core;
+
+import de.MCmoderSD.imageloader.objects.Tile;
+import de.MCmoderSD.imageloader.tools.CodecPool;
+
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+@SuppressWarnings("unused")
+public class TileReader implements AutoCloseable, Iterable<Tile> {
+
+    // Attributes
+    private final ImageInputStream input;
+    private final ImageReader reader;
+    private final int width;
+    private final int height;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final int columns;
+    private final int rows;
+
+    // Variables
+    private boolean closed;
+
+    // Constructor
+    TileReader(ImageInputStream input, int tileWidth, int tileHeight) throws IOException {
+
+        // Check Parameters
+        if (tileWidth <= 0 || tileHeight <= 0) throw new IllegalArgumentException("Tile width and height must be positive values");
+
+        // Find reader for the stream
+        ImageReader reader;
+        try {
+            reader = ImageLoader.createReader(input);
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+
+        // Set attributes
+        this.input = input;
+        this.reader = reader;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+
+        // Read header only
+        try {
+            reader.setInput(input, false, true);
+            width = reader.getWidth(0);
+            height = reader.getHeight(0);
+        } catch (IOException | RuntimeException e) {
+            CodecPool.release(reader);
+            input.close();
+            throw e;
+        }
+
+        // Tile grid, the last column and row may be smaller
+        columns = (width + tileWidth - 1) / tileWidth;
+        rows = (height + tileHeight - 1) / tileHeight;
+    }
+
+    // Helper Methods
+    static BufferedImage readRegion(ImageReader reader, Rectangle region) throws IOException {
+
+        // Check Parameters
+        if (region == null) throw new IllegalArgumentException("Region cannot be null");
+
+        // Clip region to the image bounds
+        var bounds = region.intersection(new Rectangle(0, 0, reader.getWidth(0), reader.getHeight(0)));
+        if (bounds.isEmpty()) throw new IllegalArgumentException("Region is outside of the image: " + region);
+
+        // Decode only the requested region
+        var param = reader.getDefaultReadParam();
+        param.setSourceRegion(bounds);
+        return reader.read(0, param);
+    }
+
+    // Read Methods
+    public synchronized BufferedImage read(Rectangle region) {
+
+        // The reader is back in the pool once closed
+        if (closed) throw new IllegalStateException("Tile reader is closed");
+        try {
+            return readRegion(reader, region);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read region: " + region, e);
+        }
+    }
+
+    public Tile readTile(int column, int row) {
+
+        // Check Parameters
+        if (column < 0 || column >= columns || row < 0 || row >= rows) throw new IndexOutOfBoundsException("Tile out of bounds: " + column + ", " + row);
+
+        // Read tile, tiles on the right and bottom edge may be smaller
+        var bounds = new Rectangle(column * tileWidth, row * tileHeight, Math.min(tileWidth, width - column * tileWidth), Math.min(tileHeight, height - row * tileHeight));
+        return new Tile(column, row, bounds, read(bounds));
+    }
+
+    @Override
+    public Iterator<Tile> iterator() {
+        return new Iterator<>() {
+
+            // Position in row-major order
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < columns * rows;
+            }
+
+            @Override
+            public Tile next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                var tile = readTile(index % columns, index / columns);
+                index++;
+                return tile;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void close() {
+
+        // Closing twice must not hand the reader to the pool twice
+        if (closed) return;
+        closed = true;
+        CodecPool.release(reader);
+        try {
+            input.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close tile reader", e);
+        }
+    }
+
+    // Getter
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTileCount() {
+        return columns * rows;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,11 @@
+package de.MCmoderSD.imageloader.enums;
+
+@SuppressWarnings("unused")
+public enum CacheMode {
+
+    // Keep decoded frames in memory, hits return the cached instance
+    DECODED,
+
+    // Keep only the raw encoded bytes, hits decode again
+    COMPRESSED
+}
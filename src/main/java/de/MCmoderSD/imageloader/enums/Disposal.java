@@ -0,0 +1,34 @@
+package de.MCmoderSD.imageloader.enums;
+
+@SuppressWarnings("unused")
+public enum Disposal {
+
+    // GIF disposal methods
+    NONE("none"),
+    DO_NOT_DISPOSE("doNotDispose"),
+    RESTORE_TO_BACKGROUND("restoreToBackgroundColor"),
+    RESTORE_TO_PREVIOUS("restoreToPrevious");
+
+    // Attributes
+    private final String method;
+
+    // Constructor
+    Disposal(String method) {
+        this.method = method;
+    }
+
+    // Static method to get Disposal from the GIF metadata name
+    public static Disposal fromString(String method) {
+
+        // Unspecified disposal
+        if (method == null || method.isBlank()) return NONE;
+
+        // Find matching disposal
+        for (var disposal : Disposal.values()) if (disposal.method.equalsIgnoreCase(method.trim())) return disposal;
+        return NONE;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+}
@@ -12,6 +12,9 @@ public enum Extension {
     GIF(true, true),
     WEBP(true, true);
 
+    // Constants
+    public static final int SIGNATURE_LENGTH = 16;
+
     // Attributes
     private final String extension;
     private final boolean transparent;
@@ -42,6 +45,42 @@ public enum Extension {
         throw new IllegalArgumentException("Unknown image extension: " + extension);
     }
 
+    // Static method to get Extension from the first bytes of the data
+    public static Extension fromSignature(byte[] header) throws IllegalArgumentException {
+
+        // Validate input
+        if (header == null) throw new IllegalArgumentException("Header cannot be null");
+
+        // JPEG: FF D8 FF
+        if (matches(header, 0, 0xFF, 0xD8, 0xFF)) return JPEG;
+
+        // PNG: 89 'PNG' CR LF SUB LF
+        if (matches(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return PNG;
+
+        // GIF: 'GIF87a' or 'GIF89a'
+        if (matches(header, 0, 'G', 'I', 'F', '8') && (matches(header, 4, '7', 'a') || matches(header, 4, '9', 'a'))) return GIF;
+
+        // WebP: 'RIFF' size 'WEBP'
+        if (matches(header, 0, 'R', 'I', 'F', 'F') && matches(header, 8, 'W', 'E', 'B', 'P')) return WEBP;
+
+        // TIFF: 'II' 42 little-endian or 'MM' 42 big-endian, BigTIFF uses 43
+        if (matches(header, 0, 'I', 'I') && (matches(header, 2, 42, 0) || matches(header, 2, 43, 0))) return TIFF;
+        if (matches(header, 0, 'M', 'M') && (matches(header, 2, 0, 42) || matches(header, 2, 0, 43))) return TIFF;
+
+        // BMP: 'BM'
+        if (matches(header, 0, 'B', 'M')) return BMP;
+
+        // Unknown signature
+        throw new IllegalArgumentException("Unknown image signature");
+    }
+
+    // Helper Methods
+    private static boolean matches(byte[] header, int offset, int... signature) {
+        if (header.length < offset + signature.length) return false;
+        for (var i = 0; i < signature.length; i++) if ((header[offset + i] & 0xFF) != signature[i]) return false;
+        return true;
+    }
+
     public String getExtension() {
         return extension;
     }
@@ -0,0 +1,52 @@
+package de.MCmoderSD.imageloader.enums;
+
+@SuppressWarnings("unused")
+public enum Filter {
+
+    // Resampling filters with their support radius, BICUBIC uses the Java 2D pipeline
+    BICUBIC(0),
+    TRIANGLE(1),
+    MITCHELL(2),
+    LANCZOS(3);
+
+    // Constants
+    private static final double B = 1d / 3d;
+    private static final double C = 1d / 3d;
+
+    // Attributes
+    private final double radius;
+
+    // Constructor
+    Filter(double radius) {
+        this.radius = radius;
+    }
+
+    // Kernel weight at the given distance from the sample center
+    public double weight(double x) {
+        x = Math.abs(x);
+        if (x >= radius) return 0d;
+        return switch (this) {
+            case BICUBIC -> 0d;
+            case TRIANGLE -> 1d - x;
+            case MITCHELL -> x < 1d
+                    ? ((12d - 9d * B - 6d * C) * x * x * x + (-18d + 12d * B + 6d * C) * x * x + (6d - 2d * B)) / 6d
+                    : ((-B - 6d * C) * x * x * x + (6d * B + 30d * C) * x * x + (-12d * B - 48d * C) * x + (8d * B + 24d * C)) / 6d;
+            case LANCZOS -> sinc(x) * sinc(x / radius);
+        };
+    }
+
+    private static double sinc(double x) {
+        if (x == 0d) return 1d;
+        x *= Math.PI;
+        return Math.sin(x) / x;
+    }
+
+    // Getter
+    public double getRadius() {
+        return radius;
+    }
+
+    public boolean isJava2D() {
+        return this == BICUBIC;
+    }
+}
@@ -0,0 +1,35 @@
+package de.MCmoderSD.imageloader.enums;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+@SuppressWarnings("unused")
+public enum Source {
+
+    // Supported image sources
+    RESOURCE,
+    FILE,
+    URL,
+    BASE64;
+
+    // Static method to detect the Source of a string
+    public static Source detect(String source) throws IllegalArgumentException {
+
+        // Validate input
+        if (source == null || source.isBlank()) throw new IllegalArgumentException("Source cannot be null or blank");
+
+        // Data URI
+        if (source.startsWith("data:")) return BASE64;
+
+        // Remote URL
+        if (source.startsWith("http://") || source.startsWith("https://")) return URL;
+
+        // Existing file, everything else is looked up on the classpath
+        try {
+            return Files.isRegularFile(Path.of(source)) ? FILE : RESOURCE;
+        } catch (InvalidPathException e) {
+            return RESOURCE;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package de.MCmoderSD.imageloader.enums;
+
+@SuppressWarnings("unused")
+public enum Stage {
+
+    // Whole load of a cache miss, from the request to the decoded image
+    LOAD,
+
+    // Reading the encoded bytes from the source
+    FETCH,
+
+    // Turning encoded bytes into pixels
+    DECODE,
+
+    // Scaling decoded pixels
+    RESIZE,
+
+    // Turning pixels into encoded bytes
+    ENCODE
+}
@@ -0,0 +1,11 @@
+package de.MCmoderSD.imageloader.enums;
+
+@SuppressWarnings("unused")
+public enum Storage {
+
+    // Keep cached rasters as BufferedImages, hits return the cached instance
+    HEAP,
+
+    // Keep cached pixels in native memory, hits copy them into a new BufferedImage
+    OFF_HEAP
+}
@@ -0,0 +1,14 @@
+package de.MCmoderSD.imageloader.enums;
+
+@SuppressWarnings("unused")
+public enum WatchMode {
+
+    // Changed files are only picked up by a reload
+    OFF,
+
+    // Drop entries of changed or deleted files, the next load reads them again
+    INVALIDATE,
+
+    // Read changed files again in the background and replace the cached entries, deleted files are dropped
+    REFRESH
+}
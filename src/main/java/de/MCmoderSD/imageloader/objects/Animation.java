@@ -0,0 +1,117 @@
+package de.MCmoderSD.imageloader.objects;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+
+import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("unused")
+public class Animation {
+
+    // Attributes
+    private final byte[] data;
+    private final Extension extension;
+    private final int width;
+    private final int height;
+    private final List<Frame> frames;
+    private final long[] timeline;
+    private final long duration;
+
+    // Variables
+    private volatile ImageIcon icon;
+
+    // Constructor
+    public Animation(byte[] data, Extension extension, int width, int height, List<Frame> frames) {
+
+        // Validate input
+        if (data == null || data.length == 0) throw new IllegalArgumentException("Animation data cannot be null or empty");
+        if (extension == null) throw new IllegalArgumentException("Extension cannot be null");
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Width and height must be positive values");
+        if (frames == null || frames.isEmpty()) throw new IllegalArgumentException("Animation must contain at least one frame");
+
+        // Set attributes
+        this.data = data;
+        this.extension = extension;
+        this.width = width;
+        this.height = height;
+        this.frames = List.copyOf(frames);
+
+        // Build cumulative end time of every frame in nanoseconds
+        timeline = new long[this.frames.size()];
+        var end = 0L;
+        for (var i = 0; i < timeline.length; i++) {
+            end += TimeUnit.MILLISECONDS.toNanos(this.frames.get(i).delay());
+            timeline[i] = end;
+        }
+        duration = end;
+    }
+
+    // Frame Lookup
+    public int frameIndexAt(long nanos) {
+
+        // Still images and zero-length animations always show the first frame
+        if (duration == 0 || timeline.length == 1) return 0;
+
+        // Wrap around the loop
+        var time = Math.floorMod(nanos, duration);
+
+        // Find the first frame that ends after the given time
+        var index = Arrays.binarySearch(timeline, time);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    public BufferedImage frameAt(long nanos) {
+        return frames.get(frameIndexAt(nanos)).image();
+    }
+
+    // Getter
+    public byte[] getData() {
+        return data;
+    }
+
+    public Extension getExtension() {
+        return extension;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public List<Frame> getFrames() {
+        return frames;
+    }
+
+    public Frame getFrame(int index) {
+        return frames.get(index);
+    }
+
+    public int getFrameCount() {
+        return frames.size();
+    }
+
+    public long getDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(duration);
+    }
+
+    public boolean isAnimated() {
+        return frames.size() > 1;
+    }
+
+    public ImageIcon getIcon() {
+
+        // Create the Swing icon once on first use
+        if (icon == null) synchronized (this) {
+            if (icon == null) icon = extension == Extension.GIF ? new ImageIcon(data) : new ImageIcon(frames.getFirst().image());
+        }
+
+        // Return icon
+        return icon;
+    }
+}
@@ -0,0 +1,24 @@
+package de.MCmoderSD.imageloader.objects;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@SuppressWarnings("unused")
+public record BatchResult<T>(Map<String, T> loaded, Map<String, Throwable> failures) {
+
+    // Constructor, keeps the order of the sources
+    public BatchResult {
+        loaded = Collections.unmodifiableMap(new LinkedHashMap<>(loaded));
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    // Getter
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    public int size() {
+        return loaded.size() + failures.size();
+    }
+}
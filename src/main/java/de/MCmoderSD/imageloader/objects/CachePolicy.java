@@ -0,0 +1,68 @@
+package de.MCmoderSD.imageloader.objects;
+
+import de.MCmoderSD.imageloader.enums.Storage;
+
+import java.time.Duration;
+
+@SuppressWarnings("unused")
+public record CachePolicy(long maxWeight, Duration expireAfterWrite, Duration expireAfterAccess, long coldWeight, Storage storage) {
+
+    // Constants
+    public static final long UNBOUNDED = -1L;
+    public static final long NO_COLD_TIER = 0L;
+
+    // Constructor
+    public CachePolicy {
+
+        // Validate input
+        if (maxWeight <= 0 && maxWeight != UNBOUNDED) throw new IllegalArgumentException("Max weight must be positive or UNBOUNDED");
+        if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) throw new IllegalArgumentException("Expire after write must be a positive duration");
+        if (expireAfterAccess != null && (expireAfterAccess.isNegative() || expireAfterAccess.isZero())) throw new IllegalArgumentException("Expire after access must be a positive duration");
+        if (coldWeight < 0) throw new IllegalArgumentException("Cold weight cannot be negative");
+        if (storage == null) throw new IllegalArgumentException("Storage cannot be null");
+    }
+
+    public CachePolicy(long maxWeight, Duration expireAfterWrite, Duration expireAfterAccess) {
+        this(maxWeight, expireAfterWrite, expireAfterAccess, NO_COLD_TIER, Storage.HEAP);
+    }
+
+    // Static Factory Methods
+    public static CachePolicy unbounded() {
+        return new CachePolicy(UNBOUNDED, null, null);
+    }
+
+    public static CachePolicy maxWeight(long bytes) {
+        if (bytes <= 0) throw new IllegalArgumentException("Max weight must be a positive value");
+        return new CachePolicy(bytes, null, null);
+    }
+
+    // Copy Methods
+    public CachePolicy withMaxWeight(long bytes) {
+        return new CachePolicy(bytes, expireAfterWrite, expireAfterAccess, coldWeight, storage);
+    }
+
+    public CachePolicy withExpireAfterWrite(Duration duration) {
+        return new CachePolicy(maxWeight, duration, expireAfterAccess, coldWeight, storage);
+    }
+
+    public CachePolicy withExpireAfterAccess(Duration duration) {
+        return new CachePolicy(maxWeight, expireAfterWrite, duration, coldWeight, storage);
+    }
+
+    public CachePolicy withColdTier(long bytes) {
+        return new CachePolicy(maxWeight, expireAfterWrite, expireAfterAccess, bytes, storage);
+    }
+
+    public CachePolicy withStorage(Storage storage) {
+        return new CachePolicy(maxWeight, expireAfterWrite, expireAfterAccess, coldWeight, storage);
+    }
+
+    // Getter
+    public boolean isBounded() {
+        return maxWeight != UNBOUNDED;
+    }
+
+    public boolean hasColdTier() {
+        return coldWeight != NO_COLD_TIER;
+    }
+}
@@ -0,0 +1,17 @@
+package de.MCmoderSD.imageloader.objects;
+
+@SuppressWarnings("unused")
+public record Download(byte[] data, Validator validator, boolean notModified) {
+
+    // Constructor
+    public Download {
+
+        // Validate input
+        if (!notModified && (data == null || data.length == 0)) throw new IllegalArgumentException("Downloaded data cannot be null or empty");
+    }
+
+    // Factory Methods
+    public static Download unchanged(Validator validator) {
+        return new Download(null, validator, true);
+    }
+}
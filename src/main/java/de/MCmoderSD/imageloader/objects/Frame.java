@@ -0,0 +1,27 @@
+package de.MCmoderSD.imageloader.objects;
+
+import de.MCmoderSD.imageloader.enums.Disposal;
+
+import java.awt.image.BufferedImage;
+
+@SuppressWarnings("unused")
+public record Frame(BufferedImage image, int x, int y, int delay, Disposal disposal) {
+
+    // Constructor
+    public Frame {
+
+        // Validate input
+        if (image == null) throw new IllegalArgumentException("Frame image cannot be null");
+        if (delay < 0) throw new IllegalArgumentException("Frame delay cannot be negative");
+        if (disposal == null) disposal = Disposal.NONE;
+    }
+
+    // Getter
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    public int getHeight() {
+        return image.getHeight();
+    }
+}
@@ -0,0 +1,24 @@
+package de.MCmoderSD.imageloader.objects;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+
+@SuppressWarnings("unused")
+public record ImageInfo(int width, int height, Extension extension, int frameCount, boolean transparent) {
+
+    // Constructor
+    public ImageInfo {
+
+        // Validate input
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Width and height must be positive values");
+        if (frameCount <= 0) throw new IllegalArgumentException("Frame count must be a positive value");
+    }
+
+    // Getter
+    public boolean isAnimated() {
+        return frameCount > 1;
+    }
+
+    public long getPixelCount() {
+        return (long) width * height;
+    }
+}
@@ -0,0 +1,14 @@
+package de.MCmoderSD.imageloader.objects;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.enums.Source;
+import de.MCmoderSD.imageloader.enums.Stage;
+
+@SuppressWarnings("unused")
+public record MetricKey(Stage stage, Source source, Extension extension) {
+
+    // Source and extension are null where they are unknown, e.g. for resizes or fetches before the format is detected
+    public MetricKey {
+        if (stage == null) throw new IllegalArgumentException("Stage cannot be null");
+    }
+}
@@ -0,0 +1,46 @@
+package de.MCmoderSD.imageloader.objects;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unused")
+public record PipelineReport(Map<String, List<Path>> outputs, Map<String, Throwable> failures, long bytesWritten, Duration elapsed) {
+
+    // Constructor, keeps the order of the sources
+    public PipelineReport {
+        outputs = Collections.unmodifiableMap(new LinkedHashMap<>(outputs));
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        if (elapsed == null || elapsed.isNegative()) throw new IllegalArgumentException("Elapsed time cannot be null or negative");
+    }
+
+    // Helper Methods
+    private double perSecond(double value) {
+        var seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : value / seconds;
+    }
+
+    // Getter
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    public int getOutputCount() {
+        return outputs.values().stream().mapToInt(List::size).sum();
+    }
+
+    public double getSourcesPerSecond() {
+        return perSecond(outputs.size() + failures.size());
+    }
+
+    public double getOutputsPerSecond() {
+        return perSecond(getOutputCount());
+    }
+
+    public double getBytesPerSecond() {
+        return perSecond(bytesWritten);
+    }
+}
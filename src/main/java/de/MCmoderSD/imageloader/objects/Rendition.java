@@ -0,0 +1,43 @@
+package de.MCmoderSD.imageloader.objects;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+
+import java.awt.Dimension;
+
+@SuppressWarnings("unused")
+public record Rendition(String name, int maxWidth, int maxHeight, Extension extension, float quality) {
+
+    // Constants
+    public static final float DEFAULT_QUALITY = -1f;
+
+    // Constructor
+    public Rendition {
+
+        // Validate input
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Name cannot be null or blank");
+        if (maxWidth <= 0 || maxHeight <= 0) throw new IllegalArgumentException("Width and height must be positive values");
+        if (extension == null) throw new IllegalArgumentException("Extension cannot be null");
+    }
+
+    // Static Factory Methods
+    public static Rendition of(int maxWidth, int maxHeight, Extension extension) {
+        return new Rendition(maxWidth + "x" + maxHeight, maxWidth, maxHeight, extension, DEFAULT_QUALITY);
+    }
+
+    public static Rendition of(int maxWidth, int maxHeight, Extension extension, float quality) {
+        return new Rendition(maxWidth + "x" + maxHeight, maxWidth, maxHeight, extension, quality);
+    }
+
+    // Copy Methods
+    public Rendition withName(String name) {
+        return new Rendition(name, maxWidth, maxHeight, extension, quality);
+    }
+
+    // Getter
+    public Dimension fit(int width, int height) {
+
+        // Fit into the bounding box without upscaling
+        var scale = Math.min(1d, Math.min((double) maxWidth / width, (double) maxHeight / height));
+        return new Dimension(Math.max(1, (int) Math.round(width * scale)), Math.max(1, (int) Math.round(height * scale)));
+    }
+}
@@ -0,0 +1,17 @@
+package de.MCmoderSD.imageloader.objects;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+@SuppressWarnings("unused")
+public record Tile(int column, int row, Rectangle bounds, BufferedImage image) {
+
+    // Constructor
+    public Tile {
+
+        // Validate input
+        if (column < 0 || row < 0) throw new IllegalArgumentException("Column and row cannot be negative");
+        if (bounds == null || bounds.isEmpty()) throw new IllegalArgumentException("Tile bounds cannot be null or empty");
+        if (image == null) throw new IllegalArgumentException("Tile image cannot be null");
+    }
+}
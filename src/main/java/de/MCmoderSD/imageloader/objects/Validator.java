@@ -0,0 +1,10 @@
+package de.MCmoderSD.imageloader.objects;
+
+@SuppressWarnings("unused")
+public record Validator(String etag, String lastModified) {
+
+    // Getter
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+}
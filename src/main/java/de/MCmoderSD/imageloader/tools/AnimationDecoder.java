@@ -0,0 +1,292 @@
+package de.MCmoderSD.imageloader.tools;
+
+import de.MCmoderSD.imageloader.enums.Disposal;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.objects.Animation;
+import de.MCmoderSD.imageloader.objects.Frame;
+
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.MCmoderSD.imageloader.enums.Extension.GIF;
+import static de.MCmoderSD.imageloader.enums.Extension.WEBP;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+@SuppressWarnings("unused")
+public class AnimationDecoder {
+
+    // Constants
+    private static final String GIF_STREAM_METADATA = "javax_imageio_gif_stream_1.0";
+    private static final String GIF_IMAGE_METADATA = "javax_imageio_gif_image_1.0";
+    private static final int MIN_DELAY = 20;
+    private static final int DEFAULT_DELAY = 100;
+
+    // Raw frame as stored in the file, before compositing
+    private record RawFrame(BufferedImage image, int x, int y, int delay, Disposal disposal, boolean blend) {}
+
+    // Canvas size and frames of a decoded file
+    private record RawAnimation(int width, int height, List<RawFrame> frames) {}
+
+    // Frame offsets and timing of an animated WebP
+    private record WebPFrame(int x, int y, int width, int height, int delay, boolean blend, boolean dispose) {}
+
+    public static Animation decode(byte[] data) {
+
+        // Validate input
+        if (data == null || data.length == 0) throw new IllegalArgumentException("Animation data cannot be null or empty");
+
+        // Detect format from the file signature
+        var extension = detect(data);
+
+        // Borrow reader
+        var reader = CodecPool.getReader(extension);
+
+        // Decode all frames
+        try (var inputStream = new MemoryCacheImageInputStream(new ByteArrayInputStream(data))) {
+
+            // Set up ImageReader
+            reader.setInput(inputStream, false, false);
+
+            // Read raw frames
+            var raw = extension == GIF ? readGIF(reader) : readWebP(reader, data);
+
+            // Check if frames were decoded
+            if (raw.frames.isEmpty()) throw new IOException("Animation contains no frames");
+
+            // Composite and return animation
+            return new Animation(data, extension, raw.width, raw.height, composite(raw));
+
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to decode animation: " + e.getMessage(), e);
+        } finally {
+            CodecPool.release(reader);
+        }
+    }
+
+    // Format Detection
+    private static Extension detect(byte[] data) {
+
+        // Detect format from the file signature
+        var extension = Extension.fromSignature(data);
+
+        // Only GIF and WebP can be animated
+        if (extension != GIF && extension != WEBP) throw new IllegalArgumentException("Unsupported animation format, expected GIF or WebP: " + extension.getExtension());
+        return extension;
+    }
+
+    // Read Methods
+    private static RawAnimation readGIF(ImageReader reader) throws IOException {
+
+        // Read logical screen size
+        var screen = findNode(reader.getStreamMetadata(), GIF_STREAM_METADATA, "LogicalScreenDescriptor");
+        var width = parseInt(screen, "logicalScreenWidth", 0);
+        var height = parseInt(screen, "logicalScreenHeight", 0);
+
+        // Read frames until the reader runs out of images
+        var frames = new ArrayList<RawFrame>();
+        for (var index = 0; ; index++) {
+
+            // Read frame
+            BufferedImage image;
+            try {
+                image = reader.read(index);
+            } catch (IndexOutOfBoundsException e) {
+                break;
+            }
+
+            // Read frame metadata
+            var metadata = reader.getImageMetadata(index);
+            var descriptor = findNode(metadata, GIF_IMAGE_METADATA, "ImageDescriptor");
+            var control = findNode(metadata, GIF_IMAGE_METADATA, "GraphicControlExtension");
+
+            // Delay is stored in hundredths of a second
+            var x = parseInt(descriptor, "imageLeftPosition", 0);
+            var y = parseInt(descriptor, "imageTopPosition", 0);
+            var delay = parseInt(control, "delayTime", 0) * 10;
+            var disposal = Disposal.fromString(control == null ? null : control.getAttribute("disposalMethod"));
+
+            // Add frame, GIF frames are always blended
+            frames.add(new RawFrame(image, x, y, delay, disposal, true));
+        }
+
+        // Fall back to the first frame size if the screen descriptor is missing
+        if ((width <= 0 || height <= 0) && !frames.isEmpty()) {
+            width = frames.getFirst().x + frames.getFirst().image.getWidth();
+            height = frames.getFirst().y + frames.getFirst().image.getHeight();
+        }
+
+        // Return raw animation
+        return new RawAnimation(width, height, frames);
+    }
+
+    private static RawAnimation readWebP(ImageReader reader, byte[] data) throws IOException {
+
+        // Read frame layout from the RIFF container
+        var layout = new ArrayList<WebPFrame>();
+        var canvas = parseWebP(data, layout);
+
+        // Still image
+        if (layout.isEmpty()) {
+            var image = reader.read(0);
+            return new RawAnimation(image.getWidth(), image.getHeight(), List.of(new RawFrame(image, 0, 0, 0, Disposal.NONE, true)));
+        }
+
+        // Read animation frames
+        var frames = new ArrayList<RawFrame>(layout.size());
+        for (var index = 0; index < layout.size(); index++) {
+
+            // Read frame
+            var image = reader.read(index);
+            var frame = layout.get(index);
+
+            // Some readers return the full canvas instead of the frame rectangle
+            var fullCanvas = image.getWidth() == canvas[0] && image.getHeight() == canvas[1] && (frame.width != canvas[0] || frame.height != canvas[1]);
+            var x = fullCanvas ? 0 : frame.x;
+            var y = fullCanvas ? 0 : frame.y;
+
+            // Add frame
+            frames.add(new RawFrame(image, x, y, frame.delay, frame.dispose ? Disposal.RESTORE_TO_BACKGROUND : Disposal.DO_NOT_DISPOSE, frame.blend));
+        }
+
+        // Return raw animation
+        return new RawAnimation(canvas[0], canvas[1], frames);
+    }
+
+    private static int[] parseWebP(byte[] data, List<WebPFrame> frames) {
+
+        // Chunks are little-endian and start after the RIFF header
+        var buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        var canvas = new int[] {0, 0};
+        var position = 12;
+
+        // Walk chunks
+        while (position + 8 <= data.length) {
+
+            // Read chunk header
+            var fourCC = new String(data, position, 4, US_ASCII);
+            var size = buffer.getInt(position + 4);
+            var payload = position + 8;
+            if (size < 0 || payload + size > data.length) break;
+
+            // Canvas size
+            if (fourCC.equals("VP8X") && size >= 10) {
+                canvas[0] = readUInt24(data, payload + 4) + 1;
+                canvas[1] = readUInt24(data, payload + 7) + 1;
+            }
+
+            // Animation frame
+            if (fourCC.equals("ANMF") && size >= 16) {
+                var x = readUInt24(data, payload) * 2;
+                var y = readUInt24(data, payload + 3) * 2;
+                var width = readUInt24(data, payload + 6) + 1;
+                var height = readUInt24(data, payload + 9) + 1;
+                var delay = readUInt24(data, payload + 12);
+                var flags = data[payload + 15];
+                frames.add(new WebPFrame(x, y, width, height, delay, (flags & 0x02) == 0, (flags & 0x01) != 0));
+            }
+
+            // Chunks are padded to an even size
+            position = payload + size + (size & 1);
+        }
+
+        // Return canvas size
+        return canvas;
+    }
+
+    // Compositing
+    private static List<Frame> composite(RawAnimation raw) {
+
+        // Single frames need no compositing
+        var animated = raw.frames.size() > 1;
+        var canvas = createCanvas(raw.width, raw.height);
+        var frames = new ArrayList<Frame>(raw.frames.size());
+
+        // Render every frame onto the canvas and keep a snapshot
+        for (var frame : raw.frames) {
+
+            // Keep the canvas for restore to previous
+            var previous = frame.disposal == Disposal.RESTORE_TO_PREVIOUS ? copy(canvas) : null;
+
+            // Draw frame
+            var g = canvas.createGraphics();
+            if (!frame.blend) {
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(frame.x, frame.y, frame.image.getWidth(), frame.image.getHeight());
+                g.setComposite(AlphaComposite.SrcOver);
+            }
+            g.drawImage(frame.image, frame.x, frame.y, null);
+            g.dispose();
+
+            // Snapshot composited frame
+            var delay = animated && frame.delay < MIN_DELAY ? DEFAULT_DELAY : frame.delay;
+            frames.add(new Frame(animated ? copy(canvas) : canvas, 0, 0, delay, frame.disposal));
+
+            // Apply disposal for the next frame
+            if (frame.disposal == Disposal.RESTORE_TO_BACKGROUND) {
+                var clear = canvas.createGraphics();
+                clear.setComposite(AlphaComposite.Clear);
+                clear.fillRect(frame.x, frame.y, frame.image.getWidth(), frame.image.getHeight());
+                clear.dispose();
+            } else if (previous != null) canvas = previous;
+        }
+
+        // Return composited frames
+        return frames;
+    }
+
+    private static BufferedImage createCanvas(int width, int height) {
+
+        // Use the screen's native format when available
+        if (!GraphicsEnvironment.isHeadless()) {
+            var configuration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            return configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+
+        // Premultiplied ARGB blits fastest without a screen
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static BufferedImage copy(BufferedImage image) {
+        return new BufferedImage(image.getColorModel(), image.copyData(null), image.isAlphaPremultiplied(), null);
+    }
+
+    // Helper Methods
+    private static IIOMetadataNode findNode(IIOMetadata metadata, String format, String name) {
+
+        // Check if metadata is available
+        if (metadata == null) return null;
+
+        // Search the metadata tree for the node
+        var nodes = ((IIOMetadataNode) metadata.getAsTree(format)).getElementsByTagName(name);
+        return nodes.getLength() > 0 ? (IIOMetadataNode) nodes.item(0) : null;
+    }
+
+    private static int parseInt(IIOMetadataNode node, String attribute, int fallback) {
+
+        // Check if attribute is available
+        if (node == null || !node.hasAttribute(attribute)) return fallback;
+
+        // Parse attribute
+        try {
+            return Integer.parseInt(node.getAttribute(attribute));
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static int readUInt24(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8 | (data[offset + 2] & 0xFF) << 16;
+    }
+}
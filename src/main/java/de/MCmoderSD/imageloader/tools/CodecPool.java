@@ -0,0 +1,200 @@
+package de.MCmoderSD.imageloader.tools;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static de.MCmoderSD.imageloader.enums.Extension.JPEG;
+import static de.MCmoderSD.imageloader.enums.Extension.JPG;
+
+@SuppressWarnings("unused")
+public class CodecPool {
+
+    // Constants
+    private static final int MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    // Providers per format, looked up in the IIORegistry only once
+    private static final ConcurrentHashMap<Extension, ImageReaderSpi> readerProviders = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Extension, ImageWriterSpi> writerProviders = new ConcurrentHashMap<>();
+
+    // Idle instances per provider
+    private static final ConcurrentHashMap<ImageReaderSpi, ArrayBlockingQueue<ImageReader>> readers = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<ImageWriterSpi, ArrayBlockingQueue<ImageWriter>> writers = new ConcurrentHashMap<>();
+
+    // Every pooled instance, so releasing one twice cannot hand it to two callers
+    private static final Set<Object> idle = ConcurrentHashMap.newKeySet();
+
+    // Keep streams in memory instead of writing temp files
+    static {
+        ImageIO.setUseCache(false);
+    }
+
+    // Helper Methods
+    private static Extension normalize(Extension extension) {
+        if (extension == null) throw new IllegalArgumentException("Extension cannot be null");
+        return extension == JPG ? JPEG : extension;
+    }
+
+    private static ImageReaderSpi findReaderProvider(Extension extension) {
+        var iterator = ImageIO.getImageReadersByFormatName(extension.getExtension());
+        if (!iterator.hasNext()) throw new IllegalArgumentException("No ImageReader for format: " + extension.getExtension());
+        var reader = iterator.next();
+        var provider = reader.getOriginatingProvider();
+        reader.dispose();
+        return provider;
+    }
+
+    private static ImageWriterSpi findWriterProvider(Extension extension) {
+        var iterator = ImageIO.getImageWritersByFormatName(extension.getExtension());
+        if (!iterator.hasNext()) throw new IllegalArgumentException("No ImageWriter for format: " + extension.getExtension());
+        var writer = iterator.next();
+        var provider = writer.getOriginatingProvider();
+        writer.dispose();
+        return provider;
+    }
+
+    // Reader Methods
+    public static ImageReader getReader(Extension extension) {
+
+        // Find provider
+        var provider = readerProviders.computeIfAbsent(normalize(extension), CodecPool::findReaderProvider);
+
+        // Reuse an idle reader
+        var queue = readers.get(provider);
+        var reader = queue == null ? null : queue.poll();
+        if (reader != null) {
+            idle.remove(reader);
+            return reader;
+        }
+
+        // Create a new reader
+        try {
+            return provider.createReaderInstance();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create ImageReader for format: " + extension.getExtension(), e);
+        }
+    }
+
+    public static void release(ImageReader reader) {
+
+        // Check Parameters
+        if (reader == null) return;
+
+        // Readers without provider cannot be pooled
+        var provider = reader.getOriginatingProvider();
+        if (provider == null) {
+            reader.dispose();
+            return;
+        }
+
+        // Instances that are already idle may have been handed out again
+        if (!idle.add(reader)) throw new IllegalStateException("ImageReader is already released");
+
+        // Reset state and keep the reader if the pool has room
+        reader.reset();
+        if (readers.computeIfAbsent(provider, key -> new ArrayBlockingQueue<>(MAX_IDLE)).offer(reader)) return;
+        idle.remove(reader);
+        reader.dispose();
+    }
+
+    // Writer Methods
+    public static ImageWriter getWriter(Extension extension) {
+
+        // Find provider
+        var provider = writerProviders.computeIfAbsent(normalize(extension), CodecPool::findWriterProvider);
+
+        // Reuse an idle writer
+        var queue = writers.get(provider);
+        var writer = queue == null ? null : queue.poll();
+        if (writer != null) {
+            idle.remove(writer);
+            return writer;
+        }
+
+        // Create a new writer
+        try {
+            return provider.createWriterInstance();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create ImageWriter for format: " + extension.getExtension(), e);
+        }
+    }
+
+    public static void release(ImageWriter writer) {
+
+        // Check Parameters
+        if (writer == null) return;
+
+        // Writers without provider cannot be pooled
+        var provider = writer.getOriginatingProvider();
+        if (provider == null) {
+            writer.dispose();
+            return;
+        }
+
+        // Instances that are already idle may have been handed out again
+        if (!idle.add(writer)) throw new IllegalStateException("ImageWriter is already released");
+
+        // Reset state and keep the writer if the pool has room
+        writer.reset();
+        if (writers.computeIfAbsent(provider, key -> new ArrayBlockingQueue<>(MAX_IDLE)).offer(writer)) return;
+        idle.remove(writer);
+        writer.dispose();
+    }
+
+    // Warm-up Methods
+    public static void warmUp() {
+
+        // Every supported format once, JPG shares the JPEG codecs
+        var sample = new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB);
+        for (var extension : Extension.values()) {
+            if (extension == JPG) continue;
+
+            // Resolve the reader provider and keep one idle reader, formats without a reader are skipped
+            ImageReader reader;
+            try {
+                reader = getReader(extension);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            // Round trip a small image, so the codec classes are loaded and compiled before the first real load
+            try (var input = new MemoryCacheImageInputStream(new ByteArrayInputStream(ImageEncoder.encode(sample, extension)))) {
+                reader.setInput(input, true, true);
+                reader.read(0);
+            } catch (IOException | RuntimeException ignored) {
+                // Read-only formats like WebP have no writer to produce the sample
+            } finally {
+                release(reader);
+            }
+        }
+    }
+
+    // Setter
+    public static void clear() {
+
+        // Dispose idle instances
+        for (var queue : readers.values()) for (var reader = queue.poll(); reader != null; reader = queue.poll()) {
+            idle.remove(reader);
+            reader.dispose();
+        }
+        for (var queue : writers.values()) for (var writer = queue.poll(); writer != null; writer = queue.poll()) {
+            idle.remove(writer);
+            writer.dispose();
+        }
+
+        // Look up providers again on next use, e.g. after registering new plugins
+        readerProviders.clear();
+        writerProviders.clear();
+    }
+}
@@ -0,0 +1,99 @@
+package de.MCmoderSD.imageloader.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@SuppressWarnings("unused")
+public class DataURI {
+
+    // Constants
+    private static final String KEY_PREFIX = "base64:";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int CHUNK_SIZE = 8192;
+
+    // Helper Methods
+    private static int payloadOffset(String dataURI) {
+
+        // Check Parameters
+        if (dataURI == null) throw new IllegalArgumentException("Data URI cannot be null");
+
+        // Payload starts after the first comma
+        var separator = dataURI.indexOf(',');
+        if (separator < 0) throw new IllegalArgumentException("Invalid data URI - missing ',' separator");
+        return separator + 1;
+    }
+
+    // Digest Methods
+    public static String digest(String dataURI) {
+
+        // Find payload
+        var offset = payloadOffset(dataURI);
+
+        // Hash the payload chunk by chunk, Base64 is plain ASCII
+        try {
+            var digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            var chunk = new byte[CHUNK_SIZE];
+            for (var start = offset; start < dataURI.length(); start += CHUNK_SIZE) {
+                var length = Math.min(CHUNK_SIZE, dataURI.length() - start);
+                for (var i = 0; i < length; i++) chunk[i] = (byte) dataURI.charAt(start + i);
+                digest.update(chunk, 0, length);
+            }
+
+            // Return compact cache key
+            return KEY_PREFIX + HexFormat.of().formatHex(digest.digest());
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create " + DIGEST_ALGORITHM + " digest", e);
+        }
+    }
+
+    // Decode Methods
+    public static InputStream open(String dataURI) {
+
+        // Find payload
+        var offset = payloadOffset(dataURI);
+
+        // Stream the payload characters without copying the string
+        var payload = new InputStream() {
+
+            // Position in the data URI
+            private int position = offset;
+
+            @Override
+            public int read() {
+                return position < dataURI.length() ? dataURI.charAt(position++) & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int off, int len) {
+                if (len == 0) return 0;
+                if (position >= dataURI.length()) return -1;
+                var length = Math.min(len, dataURI.length() - position);
+                for (var i = 0; i < length; i++) bytes[off + i] = (byte) dataURI.charAt(position++);
+                return length;
+            }
+
+            @Override
+            public int available() {
+                return dataURI.length() - position;
+            }
+        };
+
+        // Decode on the fly
+        return Base64.getDecoder().wrap(payload);
+    }
+
+    public static byte[] decode(String dataURI) {
+
+        // Decode the whole payload
+        try (var stream = open(dataURI)) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid Base64 data: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package de.MCmoderSD.imageloader.tools;
+
+import javax.management.NotificationEmitter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+@SuppressWarnings("unused")
+public class HeapMonitor {
+
+    // Constants
+    public static final double DEFAULT_THRESHOLD = 0.8;
+
+    // Singleton instance
+    private static HeapMonitor instance;
+
+    // Attributes
+    private final List<MemoryPoolMXBean> pools;
+    private final CopyOnWriteArrayList<Runnable> listeners;
+    private final HashMap<MemoryPoolMXBean, Long> installed;
+
+    // Variables
+    private volatile double threshold;
+    private boolean registered;
+
+    // Constructor
+    private HeapMonitor() {
+
+        // Long-lived heap pools, young pools are empty after every collection anyway
+        pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported() && pool.isCollectionUsageThresholdSupported() && pool.getUsage().getMax() > 0)
+                .toList();
+        listeners = new CopyOnWriteArrayList<>();
+        installed = new HashMap<>();
+        threshold = DEFAULT_THRESHOLD;
+    }
+
+    // Get Singleton Instance
+    public static synchronized HeapMonitor getInstance() {
+        if (instance == null) instance = new HeapMonitor();
+        return instance;
+    }
+
+    // Helper Methods
+    private void publish() {
+
+        // Listeners run off the notification thread, it is shared by the whole JVM
+        for (var listener : listeners) {
+            ForkJoinPool.commonPool().execute(() -> {
+                try {
+                    listener.run();
+                } catch (RuntimeException ignored) {
+                }
+            });
+        }
+    }
+
+    private synchronized void install() {
+
+        // The JVM notifies once a collection leaves a pool above its threshold
+        if (!registered && ManagementFactory.getMemoryMXBean() instanceof NotificationEmitter emitter) {
+            emitter.addNotificationListener((notification, handback) -> {
+
+                // Thresholds of other components may be lower, only our own counts
+                if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType()) && isUnderPressure()) publish();
+            }, null, null);
+            registered = true;
+        }
+
+        // Thresholds are global to the JVM, pools that already have one set elsewhere are left alone
+        for (var pool : pools) {
+            var current = pool.getCollectionUsageThreshold();
+            var own = installed.get(pool);
+            if (current != 0 && (own == null || current != own)) {
+                installed.remove(pool);
+                continue;
+            }
+            var value = Math.max(1, (long) (pool.getUsage().getMax() * threshold));
+            pool.setCollectionUsageThreshold(value);
+            installed.put(pool, value);
+        }
+    }
+
+    private synchronized void uninstall() {
+
+        // Reset only the thresholds nobody changed since they were set
+        installed.forEach((pool, value) -> {
+            if (pool.getCollectionUsageThreshold() == value) pool.setCollectionUsageThreshold(0);
+        });
+        installed.clear();
+    }
+
+    // Setter
+    public synchronized void addListener(Runnable listener) {
+
+        // Check Parameters
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null");
+
+        // Thresholds are only installed while somebody listens
+        listeners.addIfAbsent(listener);
+        install();
+    }
+
+    public synchronized void removeListener(Runnable listener) {
+        if (listeners.remove(listener) && listeners.isEmpty()) uninstall();
+    }
+
+    public synchronized void setThreshold(double threshold) {
+
+        // Check Parameters
+        if (!(threshold > 0 && threshold < 1)) throw new IllegalArgumentException("Threshold must be between 0 and 1");
+
+        // Move the installed thresholds along
+        this.threshold = threshold;
+        if (!listeners.isEmpty()) install();
+    }
+
+    // Getter
+    public boolean isUnderPressure() {
+
+        // Usage right after the last collection, garbage that is about to be collected does not count
+        for (var pool : pools) {
+            var usage = pool.getCollectionUsage();
+            if (usage != null && usage.getMax() > 0 && usage.getUsed() > usage.getMax() * threshold) return true;
+        }
+        return false;
+    }
+
+    public boolean isSupported() {
+        return !pools.isEmpty();
+    }
+
+    public synchronized boolean isInstalled() {
+        return !installed.isEmpty();
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+}
@@ -1,38 +1,71 @@
 package de.MCmoderSD.imageloader.tools;
 
 import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.enums.Stage;
 
 import javax.imageio.IIOImage;
-import javax.imageio.ImageIO;
 import javax.imageio.ImageWriteParam;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Base64;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
 @SuppressWarnings("unused")
 public class ImageEncoder {
 
-    public static byte[] encode(BufferedImage image, Extension extension) {
-        return encode(image, extension, -1f);
+    // Constants
+    private static final int WINDOW = 1024 * 1024;
+
+    // Memory cache that hands everything but the last window to the destination
+    private static final class WindowedOutputStream extends MemoryCacheImageOutputStream {
+
+        // Constructor
+        private WindowedOutputStream(OutputStream destination) {
+            super(destination);
+        }
+
+        // Helper Methods
+        private void release() throws IOException {
+
+            // Writers only seek back to patch headers of the current chunk, older bytes are final
+            var limit = getStreamPosition() - WINDOW;
+            if (limit > getFlushedPosition()) flushBefore(limit);
+        }
+
+        // Write Methods
+        @Override
+        public void write(int b) throws IOException {
+            super.write(b);
+            release();
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            super.write(bytes, offset, length);
+            release();
+        }
     }
 
-    public static byte[] encode(BufferedImage image, Extension extension, float quality) {
+    // Helper Methods
+    private static void write(BufferedImage image, Extension extension, float quality, OutputStream destination) throws IOException {
 
         // Validate input
         if (image == null) throw new IllegalArgumentException("Image cannot be null");
         if (extension == null) throw new IllegalArgumentException("Extension cannot be null");
+        if (destination == null) throw new IllegalArgumentException("Destination cannot be null");
 
-        // Create ByteArrayOutputStream
-        var byteArrayOutputStream = new ByteArrayOutputStream();
+        // Borrow writer
+        var writer = CodecPool.getWriter(extension);
 
-        // Validate image and extension
-        var writers = ImageIO.getImageWritersByFormatName(extension.getExtension());
-        if (!writers.hasNext()) throw new IllegalArgumentException("No ImageWriter for format: " + extension.getExtension());
-        var writer = writers.next();
-
-        // Write image to ByteArrayOutputStream
-        try (var outputStream = ImageIO.createImageOutputStream(byteArrayOutputStream)) {
+        // Write image to the destination, only the last window is kept in memory for writers that seek back
+        try (var outputStream = new WindowedOutputStream(destination)) {
 
             // Set up ImageWriter
             writer.setOutput(outputStream);
@@ -44,27 +77,113 @@ public class ImageEncoder {
                 param.setCompressionQuality(quality);
             }
 
-            // Write the image
+            // Write the image and record how long it took and how many bytes it produced
+            var timer = Metrics.getInstance().start(Stage.ENCODE);
             writer.write(null, new IIOImage(image, null, null), param);
+            outputStream.flush();
+            timer.stop(null, extension, outputStream.getStreamPosition());
+
+        } finally {
+            CodecPool.release(writer);
+        }
+    }
+
+    private static OutputStream shield(OutputStream outputStream) {
+
+        // Keep the destination open when the wrapping stream is closed
+        return new FilterOutputStream(outputStream) {
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    private static byte[] prefix(Extension extension) {
+        if (extension == null) throw new IllegalArgumentException("Extension cannot be null");
+        return ("data:image/" + extension.getExtension().toLowerCase() + ";base64,").getBytes(ISO_8859_1);
+    }
 
-            // Clean up
-            writer.dispose();
-            byteArrayOutputStream.flush();
-            byteArrayOutputStream.close();
+    // Encode Methods
+    public static byte[] encode(BufferedImage image, Extension extension) {
+        return encode(image, extension, -1f);
+    }
+
+    public static byte[] encode(BufferedImage image, Extension extension, float quality) {
+
+        // Encode into memory
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        encode(image, extension, quality, byteArrayOutputStream);
 
-            // Return the encoded image as a byte array
-            return byteArrayOutputStream.toByteArray();
+        // Return the encoded image as a byte array
+        return byteArrayOutputStream.toByteArray();
+    }
 
+    public static void encode(BufferedImage image, Extension extension, OutputStream outputStream) {
+        encode(image, extension, -1f, outputStream);
+    }
+
+    public static void encode(BufferedImage image, Extension extension, float quality, OutputStream outputStream) {
+        try {
+            write(image, extension, quality, outputStream);
         } catch (IOException e) {
             throw new RuntimeException("Failed to encode image: " + e.getMessage(), e);
         }
     }
 
+    public static void encode(BufferedImage image, Extension extension, WritableByteChannel channel) {
+        encode(image, extension, -1f, channel);
+    }
+
+    public static void encode(BufferedImage image, Extension extension, float quality, WritableByteChannel channel) {
+
+        // Check Parameters
+        if (channel == null) throw new IllegalArgumentException("Channel cannot be null");
+
+        // Write straight into the channel, the channel stays open
+        encode(image, extension, quality, Channels.newOutputStream(channel));
+    }
+
+    // Base64 Methods
     public static String toBase64(BufferedImage image, Extension extension) {
-        return String.format("data:image/%s;base64,%s", extension.getExtension().toLowerCase(), Base64.getEncoder().encodeToString(encode(image, extension)));
+        return toBase64(image, extension, -1f);
     }
 
     public static String toBase64(BufferedImage image, Extension extension, float quality) {
-        return String.format("data:image/%s;base64,%s", extension.getExtension().toLowerCase(), Base64.getEncoder().encodeToString(encode(image, extension, quality)));
+
+        // Encode the data URI into memory
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        writeBase64(image, extension, quality, byteArrayOutputStream);
+
+        // Base64 is plain ASCII
+        return byteArrayOutputStream.toString(ISO_8859_1);
+    }
+
+    public static void writeBase64(BufferedImage image, Extension extension, OutputStream outputStream) {
+        writeBase64(image, extension, -1f, outputStream);
+    }
+
+    public static void writeBase64(BufferedImage image, Extension extension, float quality, OutputStream outputStream) {
+
+        // Check Parameters
+        if (image == null) throw new IllegalArgumentException("Image cannot be null");
+        if (outputStream == null) throw new IllegalArgumentException("Output stream cannot be null");
+        var prefix = prefix(extension);
+
+        // Write the data URI prefix, then Base64 encode the image on the fly
+        try {
+            outputStream.write(prefix);
+            try (var base64 = Base64.getEncoder().wrap(shield(outputStream))) {
+                write(image, extension, quality, base64);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode image: " + e.getMessage(), e);
+        }
     }
-}
\ No newline at end of file
+}
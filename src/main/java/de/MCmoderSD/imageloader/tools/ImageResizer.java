@@ -1,25 +1,21 @@
 package de.MCmoderSD.imageloader.tools;
 
+import de.MCmoderSD.imageloader.enums.Filter;
+import de.MCmoderSD.imageloader.enums.Stage;
+
 import java.awt.image.BufferedImage;
 
 import static java.awt.RenderingHints.*;
+import static java.awt.image.BufferedImage.*;
 
 @SuppressWarnings("unused")
 public class ImageResizer {
 
-
-    public static BufferedImage resize(BufferedImage image, int size) {
-        return resize(image, size, size);
-    }
-
-    public static BufferedImage resize(BufferedImage image, int width, int height) {
-
-        // Validate input parameters
-        if (image == null) throw new IllegalArgumentException("Image cannot be null");
-        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Width and height must be positive values");
+    // Helper Methods
+    private static BufferedImage draw(BufferedImage image, int width, int height, int type) {
 
         // Create a new BufferedImage with the desired dimensions
-        var resizedImage = new BufferedImage(width, height, image.getType());
+        var resizedImage = new BufferedImage(width, height, type);
 
         // Create graphics object and configure rendering quality
         var g = resizedImage.createGraphics();
@@ -41,6 +37,35 @@ public class ImageResizer {
         return resizedImage;
     }
 
+    // Resize Methods
+    public static BufferedImage resize(BufferedImage image, int size) {
+        return resize(image, size, size);
+    }
+
+    public static BufferedImage resize(BufferedImage image, int width, int height) {
+        return resize(image, width, height, Filter.LANCZOS);
+    }
+
+    public static BufferedImage resize(BufferedImage image, int width, int height, Filter filter) {
+
+        // Validate input parameters
+        if (image == null) throw new IllegalArgumentException("Image cannot be null");
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Width and height must be positive values");
+        if (filter == null) throw new IllegalArgumentException("Filter cannot be null");
+
+        // Keep the image type, custom and indexed types fall back to (A)RGB
+        var type = switch (image.getType()) {
+            case TYPE_CUSTOM, TYPE_BYTE_INDEXED, TYPE_BYTE_BINARY -> image.getColorModel().hasAlpha() ? TYPE_INT_ARGB : TYPE_INT_RGB;
+            default -> image.getType();
+        };
+
+        // Resample on the int raster, or draw through Java 2D
+        var timer = Metrics.getInstance().start(Stage.RESIZE);
+        var resized = filter.isJava2D() ? draw(image, width, height, type) : Resampler.resize(image, width, height, type, filter);
+        timer.stop();
+        return resized;
+    }
+
     public static BufferedImage scale(BufferedImage image, float scale) {
 
         // Validate input parameters
@@ -68,4 +93,9 @@ public class ImageResizer {
         // Return the resized image
         return resize(image, newWidth, newHeight);
     }
-}
\ No newline at end of file
+
+    // Getter
+    public static boolean isVectorized() {
+        return Resampler.isVectorized();
+    }
+}
@@ -0,0 +1,118 @@
+package de.MCmoderSD.imageloader.tools;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public class LatencyHistogram {
+
+    // Constants
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    // Attributes
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder total;
+    private final AtomicLong max;
+
+    // Constructor
+    public LatencyHistogram() {
+        buckets = new AtomicLongArray(BUCKETS);
+        count = new LongAdder();
+        total = new LongAdder();
+        max = new AtomicLong();
+    }
+
+    // Helper Methods
+    private static int index(long nanos) {
+
+        // Small values get a bucket each
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+
+        // Every power of two is split into sub buckets, so the error stays below 25 percent
+        var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        var mantissa = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long upperBound(int index) {
+
+        // Inverse of index, the largest value that falls into the bucket
+        if (index < SUB_BUCKETS) return index;
+        var shift = index / SUB_BUCKETS - 1;
+        var lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    // Record Methods
+    public void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        buckets.incrementAndGet(index(nanos));
+        count.increment();
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    public LatencyHistogram merge(LatencyHistogram other) {
+
+        // Check Parameters
+        if (other == null) throw new IllegalArgumentException("Histogram cannot be null");
+
+        // New histogram with the samples of both
+        var merged = new LatencyHistogram();
+        for (var source : new LatencyHistogram[] {this, other}) {
+            for (var i = 0; i < BUCKETS; i++) merged.buckets.addAndGet(i, source.buckets.get(i));
+            merged.count.add(source.count.sum());
+            merged.total.add(source.total.sum());
+            merged.max.accumulateAndGet(source.max.get(), Math::max);
+        }
+        return merged;
+    }
+
+    public void reset() {
+        for (var i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    // Getter
+    public long getCount() {
+        return count.sum();
+    }
+
+    public Duration getTotal() {
+        return Duration.ofNanos(total.sum());
+    }
+
+    public Duration getMean() {
+        var samples = count.sum();
+        return samples == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / samples);
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(max.get());
+    }
+
+    public Duration getPercentile(double percentile) {
+
+        // Check Parameters
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be between 0 and 100");
+
+        // Walk the buckets until the rank is reached, the result is the upper bound of its bucket
+        var samples = 0L;
+        for (var i = 0; i < BUCKETS; i++) samples += buckets.get(i);
+        if (samples == 0) return Duration.ZERO;
+        var rank = Math.max(1, (long) Math.ceil(percentile / 100 * samples));
+        var seen = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) return Duration.ofNanos(Math.min(upperBound(i), max.get()));
+        }
+        return getMax();
+    }
+}
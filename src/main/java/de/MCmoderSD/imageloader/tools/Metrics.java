@@ -0,0 +1,308 @@
+package de.MCmoderSD.imageloader.tools;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.enums.Source;
+import de.MCmoderSD.imageloader.enums.Stage;
+import de.MCmoderSD.imageloader.objects.MetricKey;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+@SuppressWarnings("unused")
+public class Metrics {
+
+    // Singleton instance
+    private static Metrics instance;
+
+    // Flight Recorder events, the stage fields are shared
+    @Category("ImageLoader")
+    private abstract static class ImageEvent extends Event {
+
+        @Label("Stage")
+        String stage;
+
+        @Label("Source")
+        String source;
+
+        @Label("Extension")
+        String extension;
+
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("de.MCmoderSD.imageloader.Load")
+    @Label("Image Load")
+    private static class LoadEvent extends ImageEvent {
+    }
+
+    @Name("de.MCmoderSD.imageloader.Encode")
+    @Label("Image Encode")
+    private static class EncodeEvent extends ImageEvent {
+    }
+
+    @Name("de.MCmoderSD.imageloader.Stage")
+    @Label("Image Stage")
+    private static class StageEvent extends ImageEvent {
+    }
+
+    // Running measurement of one stage
+    public final class Timer {
+
+        // Attributes
+        private final Stage stage;
+        private final long start;
+        private final ImageEvent event;
+
+        // Constructor
+        private Timer(Stage stage) {
+            this.stage = stage;
+            event = switch (stage) {
+                case LOAD -> new LoadEvent();
+                case ENCODE -> new EncodeEvent();
+                default -> new StageEvent();
+            };
+            event.begin();
+            start = System.nanoTime();
+        }
+
+        // Stop Methods
+        public void stop() {
+            stop(null, null, 0);
+        }
+
+        public void stop(Source source, Extension extension, long bytes) {
+
+            // Record latency
+            var nanos = System.nanoTime() - start;
+            histograms.computeIfAbsent(new MetricKey(stage, source, extension), key -> new LatencyHistogram()).record(nanos);
+
+            // Count finished loads and the encoded bytes every decoder read
+            if (source != null && stage == Stage.LOAD) loads.get(source).increment();
+            if (source != null && stage == Stage.DECODE) Metrics.this.bytes.get(source).add(bytes);
+
+            // Emit event, the fields are only filled if a recording wants it
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = stage.name();
+                event.source = source == null ? null : source.name();
+                event.extension = extension == null ? null : extension.name();
+                event.bytes = bytes;
+                event.commit();
+            }
+
+            // Notify listeners
+            publish(listener -> listener.onTiming(stage, source, extension, nanos, bytes));
+        }
+    }
+
+    // Attributes
+    private final EnumMap<Source, LongAdder> hits;
+    private final EnumMap<Source, LongAdder> misses;
+    private final EnumMap<Source, LongAdder> loads;
+    private final EnumMap<Source, LongAdder> failures;
+    private final EnumMap<Source, LongAdder> bytes;
+    private final LongAdder evictions;
+    private final LongAdder demotions;
+    private final LongAdder promotions;
+    private final ConcurrentHashMap<MetricKey, LatencyHistogram> histograms;
+    private final CopyOnWriteArrayList<MetricsListener> listeners;
+
+    // Constructor
+    private Metrics() {
+
+        // Counters per source, filled once and only read afterwards
+        hits = counters();
+        misses = counters();
+        loads = counters();
+        failures = counters();
+        bytes = counters();
+        evictions = new LongAdder();
+        demotions = new LongAdder();
+        promotions = new LongAdder();
+
+        // Histograms are created on first use
+        histograms = new ConcurrentHashMap<>();
+        listeners = new CopyOnWriteArrayList<>();
+    }
+
+    // Get Singleton Instance
+    public static synchronized Metrics getInstance() {
+        if (instance == null) instance = new Metrics();
+        return instance;
+    }
+
+    // Helper Methods
+    private static EnumMap<Source, LongAdder> counters() {
+        var counters = new EnumMap<Source, LongAdder>(Source.class);
+        for (var source : Source.values()) counters.put(source, new LongAdder());
+        return counters;
+    }
+
+    private static long sum(EnumMap<Source, LongAdder> counters) {
+        var sum = 0L;
+        for (var counter : counters.values()) sum += counter.sum();
+        return sum;
+    }
+
+    private void publish(Consumer<MetricsListener> event) {
+
+        // A broken listener must not fail the load it observes
+        for (var listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    private LatencyHistogram histogram(Predicate<MetricKey> filter) {
+
+        // Merge all matching histograms
+        var merged = new LatencyHistogram();
+        for (var entry : histograms.entrySet()) if (filter.test(entry.getKey())) merged = merged.merge(entry.getValue());
+        return merged;
+    }
+
+    // Record Methods
+    public Timer start(Stage stage) {
+        if (stage == null) throw new IllegalArgumentException("Stage cannot be null");
+        return new Timer(stage);
+    }
+
+    public void recordHit(Source source) {
+        hits.get(source).increment();
+        publish(listener -> listener.onHit(source));
+    }
+
+    public void recordMiss(Source source) {
+        misses.get(source).increment();
+        publish(listener -> listener.onMiss(source));
+    }
+
+    public void recordFailure(Source source, Throwable error) {
+        failures.get(source).increment();
+        publish(listener -> listener.onFailure(source, error));
+    }
+
+    public void recordEviction() {
+        evictions.increment();
+        publish(MetricsListener::onEviction);
+    }
+
+    public void recordDemotion() {
+        demotions.increment();
+        publish(MetricsListener::onDemotion);
+    }
+
+    public void recordPromotion() {
+        promotions.increment();
+        publish(MetricsListener::onPromotion);
+    }
+
+    // Setter
+    public void addListener(MetricsListener listener) {
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null");
+        listeners.addIfAbsent(listener);
+    }
+
+    public void removeListener(MetricsListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void reset() {
+        for (var counters : List.of(hits, misses, loads, failures, bytes)) counters.values().forEach(LongAdder::reset);
+        evictions.reset();
+        demotions.reset();
+        promotions.reset();
+        histograms.clear();
+    }
+
+    // Getter
+    public long getHits() {
+        return sum(hits);
+    }
+
+    public long getHits(Source source) {
+        return hits.get(source).sum();
+    }
+
+    public long getMisses() {
+        return sum(misses);
+    }
+
+    public long getMisses(Source source) {
+        return misses.get(source).sum();
+    }
+
+    public double getHitRatio() {
+        var hit = getHits();
+        var total = hit + getMisses();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public long getLoads() {
+        return sum(loads);
+    }
+
+    public long getLoads(Source source) {
+        return loads.get(source).sum();
+    }
+
+    public long getFailures() {
+        return sum(failures);
+    }
+
+    public long getFailures(Source source) {
+        return failures.get(source).sum();
+    }
+
+    public long getBytes() {
+        return sum(bytes);
+    }
+
+    public long getBytes(Source source) {
+        return bytes.get(source).sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getDemotions() {
+        return demotions.sum();
+    }
+
+    public long getPromotions() {
+        return promotions.sum();
+    }
+
+    public LatencyHistogram getHistogram(Stage stage) {
+        return histogram(key -> key.stage() == stage);
+    }
+
+    public LatencyHistogram getHistogram(Stage stage, Source source) {
+        return histogram(key -> key.stage() == stage && key.source() == source);
+    }
+
+    public LatencyHistogram getHistogram(Stage stage, Extension extension) {
+        return histogram(key -> key.stage() == stage && key.extension() == extension);
+    }
+
+    public Map<MetricKey, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+}
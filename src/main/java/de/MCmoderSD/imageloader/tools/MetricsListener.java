@@ -0,0 +1,35 @@
+package de.MCmoderSD.imageloader.tools;
+
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.enums.Source;
+import de.MCmoderSD.imageloader.enums.Stage;
+
+@SuppressWarnings("unused")
+public interface MetricsListener {
+
+    // Cache lookups
+    default void onHit(Source source) {
+    }
+
+    default void onMiss(Source source) {
+    }
+
+    // Entries removed by the size or expiry policy
+    default void onEviction() {
+    }
+
+    // Entries compressed into the cold tier and decompressed on access
+    default void onDemotion() {
+    }
+
+    default void onPromotion() {
+    }
+
+    // Loads that threw
+    default void onFailure(Source source, Throwable error) {
+    }
+
+    // Finished stages, source and extension are null where they are unknown
+    default void onTiming(Stage stage, Source source, Extension extension, long nanos, long bytes) {
+    }
+}
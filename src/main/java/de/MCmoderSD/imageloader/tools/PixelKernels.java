@@ -0,0 +1,55 @@
+package de.MCmoderSD.imageloader.tools;
+
+interface PixelKernels {
+
+    // Constants
+    String VECTOR_MODULE = "jdk.incubator.vector";
+    String VECTOR_KERNELS = "de.MCmoderSD.imageloader.tools.VectorKernels";
+
+    // Use SIMD kernels when the Vector API module is available at runtime
+    static PixelKernels create() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) try {
+            return (PixelKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+        }
+        return new ScalarKernels();
+    }
+
+    // Round to the nearest integer and clamp to [0, max]
+    static int clamp(float value, int max) {
+        var rounded = (int) (value + 0.5f);
+        return rounded < 0 ? 0 : Math.min(rounded, max);
+    }
+
+    // Premultiplied colors can never exceed alpha, negative lobes are clipped
+    static int pack(float a, float r, float g, float b) {
+        var alpha = clamp(a, 255);
+        return alpha << 24 | clamp(r, alpha) << 16 | clamp(g, alpha) << 8 | clamp(b, alpha);
+    }
+
+    // Alpha Methods
+    void premultiply(int[] pixels, int from, int to);
+
+    void unpremultiply(int[] pixels, int from, int to);
+
+    // Conversion Methods
+    void opaque(int[] source, int[] target, int from, int to);
+
+    void bgrToArgb(byte[] source, int[] target, int from, int to);
+
+    void argbToBgr(int[] source, byte[] target, int from, int to);
+
+    void abgrToArgb(byte[] source, int[] target, int from, int to);
+
+    void argbToAbgr(int[] source, byte[] target, int from, int to);
+
+    // Convolution Methods
+    void convolve(int[] source, int sourceOffset, int[] starts, float[] weights, int taps, int[] target, int targetOffset, int from, int to);
+
+    void accumulate(int[] source, int offset, float weight, float[] a, float[] r, float[] g, float[] b, int from, int to);
+
+    void pack(float[] a, float[] r, float[] g, float[] b, int[] target, int offset, int from, int to);
+
+    // Getter
+    boolean isVectorized();
+}
@@ -0,0 +1,34 @@
+package de.MCmoderSD.imageloader.tools;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+
+import static java.awt.image.BufferedImage.*;
+
+@SuppressWarnings("unused")
+public class Rasters {
+
+    // Layout Methods
+    public static DataBuffer standard(BufferedImage image) {
+
+        // Check Parameters
+        if (image == null) throw new IllegalArgumentException("Image cannot be null");
+
+        // Only standard single bank layouts can be rebuilt from their type alone
+        var raster = image.getRaster();
+        var buffer = raster.getDataBuffer();
+        if (raster.getParent() != null || buffer.getNumBanks() != 1) return null;
+        var elements = image.getWidth() * image.getHeight();
+        return switch (image.getType()) {
+            case TYPE_INT_RGB, TYPE_INT_ARGB, TYPE_INT_ARGB_PRE, TYPE_INT_BGR -> buffer instanceof DataBufferInt && buffer.getSize() == elements ? buffer : null;
+            case TYPE_3BYTE_BGR, TYPE_4BYTE_ABGR, TYPE_4BYTE_ABGR_PRE, TYPE_BYTE_GRAY -> buffer instanceof DataBufferByte && buffer.getSize() == elements * raster.getNumDataElements() ? buffer : null;
+            default -> null;
+        };
+    }
+
+    public static boolean isStandard(BufferedImage image) {
+        return standard(image) != null;
+    }
+}
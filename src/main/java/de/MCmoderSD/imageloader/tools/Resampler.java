@@ -0,0 +1,261 @@
+package de.MCmoderSD.imageloader.tools;
+
+import de.MCmoderSD.imageloader.enums.Filter;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static java.awt.image.BufferedImage.*;
+
+class Resampler {
+
+    // Constants
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int HALVING_RATIO = 2;
+    private static final PixelKernels KERNELS = PixelKernels.create();
+
+    // Row range callback for parallel bands
+    @FunctionalInterface
+    private interface RowTask {
+        void run(int from, int to);
+    }
+
+    // Precomputed kernel weights of one axis, tap-major and zero padded to the same window for every pixel
+    private record Kernel(int[] starts, float[] weights, int taps) {
+    }
+
+    // Helper Methods
+    private static void forEachBand(int rows, int width, RowTask task) {
+
+        // Small images are not worth the fork
+        if ((long) rows * width < PARALLEL_THRESHOLD || rows < 2) {
+            task.run(0, rows);
+            return;
+        }
+
+        // Split rows into bands on the common pool
+        var bands = Math.min(rows, ForkJoinPool.getCommonPoolParallelism() * 4);
+        IntStream.range(0, bands).parallel().forEach(band -> task.run(band * rows / bands, (band + 1) * rows / bands));
+    }
+
+    private static Kernel kernel(Filter filter, int sourceLength, int targetLength) {
+
+        // Widen the filter when downscaling so every source pixel contributes
+        var scale = (double) targetLength / sourceLength;
+        var filterScale = Math.max(1d, 1d / scale);
+        var support = filter.getRadius() * filterScale;
+
+        // Source window of every target pixel
+        var lefts = new int[targetLength];
+        var rights = new int[targetLength];
+        var taps = 1;
+        for (var i = 0; i < targetLength; i++) {
+            var center = (i + 0.5d) / scale;
+            lefts[i] = Math.max(0, (int) Math.floor(center - support));
+            rights[i] = Math.min(sourceLength, (int) Math.ceil(center + support));
+            taps = Math.max(taps, rights[i] - lefts[i]);
+        }
+
+        // Weights of every target pixel, normalized to a sum of one
+        var starts = new int[targetLength];
+        var weights = new float[taps * targetLength];
+        var samples = new double[taps];
+        for (var i = 0; i < targetLength; i++) {
+            var center = (i + 0.5d) / scale;
+            var left = lefts[i];
+            var count = rights[i] - left;
+
+            // Sample kernel
+            var sum = 0d;
+            for (var k = 0; k < count; k++) {
+                samples[k] = filter.weight((left + k + 0.5d - center) / filterScale);
+                sum += samples[k];
+            }
+
+            // A degenerate kernel falls back to the nearest pixel
+            if (sum == 0d) {
+                left = Math.min(sourceLength - 1, (int) center);
+                count = 1;
+                samples[0] = sum = 1d;
+            }
+
+            // Shift the window inside the source, so every pixel reads the same number of taps
+            var start = Math.min(left, sourceLength - taps);
+            starts[i] = start;
+            for (var k = 0; k < count; k++) weights[(left - start + k) * targetLength + i] = (float) (samples[k] / sum);
+        }
+
+        // Return kernel
+        return new Kernel(starts, weights, taps);
+    }
+
+    // Pixel Conversion
+    private static <T> T direct(BufferedImage image, Class<T> type) {
+
+        // Raw data of standard single bank layouts, null for everything else
+        return switch (Rasters.standard(image)) {
+            case DataBufferInt ints when type == int[].class -> type.cast(ints.getData());
+            case DataBufferByte bytes when type == byte[].class -> type.cast(bytes.getData());
+            case null, default -> null;
+        };
+    }
+
+    private static int[] pixels(BufferedImage image) {
+
+        // Premultiplied ARGB pixels
+        var width = image.getWidth();
+        var height = image.getHeight();
+        var pixels = new int[width * height];
+
+        // Standard layouts are converted by the pixel kernels, everything else by Java 2D
+        var premultiplied = false;
+        switch (image.getType()) {
+            case TYPE_INT_ARGB_PRE, TYPE_INT_ARGB -> {
+                var data = direct(image, int[].class);
+                if (data != null) System.arraycopy(data, 0, pixels, 0, pixels.length);
+                else image.getRGB(0, 0, width, height, pixels, 0, width);
+                premultiplied = data != null && image.getType() == TYPE_INT_ARGB_PRE;
+            }
+            case TYPE_INT_RGB -> {
+                var data = direct(image, int[].class);
+                if (data == null) image.getRGB(0, 0, width, height, pixels, 0, width);
+                else forEachBand(height, width, (from, to) -> KERNELS.opaque(data, pixels, from * width, to * width));
+                premultiplied = true;
+            }
+            case TYPE_3BYTE_BGR -> {
+                var data = direct(image, byte[].class);
+                if (data == null) image.getRGB(0, 0, width, height, pixels, 0, width);
+                else forEachBand(height, width, (from, to) -> KERNELS.bgrToArgb(data, pixels, from * width, to * width));
+                premultiplied = true;
+            }
+            case TYPE_4BYTE_ABGR, TYPE_4BYTE_ABGR_PRE -> {
+                var data = direct(image, byte[].class);
+                if (data == null) image.getRGB(0, 0, width, height, pixels, 0, width);
+                else forEachBand(height, width, (from, to) -> KERNELS.abgrToArgb(data, pixels, from * width, to * width));
+                premultiplied = data != null && image.getType() == TYPE_4BYTE_ABGR_PRE;
+            }
+            default -> image.getRGB(0, 0, width, height, pixels, 0, width);
+        }
+
+        // Premultiply straight alpha, opaque pixels stay as they are
+        if (!premultiplied) forEachBand(height, width, (from, to) -> KERNELS.premultiply(pixels, from * width, to * width));
+        return pixels;
+    }
+
+    private static BufferedImage image(int[] pixels, int width, int height, int type) {
+
+        // Back to straight alpha unless the target is premultiplied
+        var image = new BufferedImage(width, height, type);
+        if (type != TYPE_INT_ARGB_PRE && type != TYPE_4BYTE_ABGR_PRE) forEachBand(height, width, (from, to) -> KERNELS.unpremultiply(pixels, from * width, to * width));
+
+        // Standard layouts are filled by the pixel kernels, other types are converted by Java 2D
+        switch (type) {
+            case TYPE_INT_ARGB, TYPE_INT_ARGB_PRE, TYPE_INT_RGB -> System.arraycopy(pixels, 0, direct(image, int[].class), 0, pixels.length);
+            case TYPE_3BYTE_BGR -> {
+                var data = direct(image, byte[].class);
+                forEachBand(height, width, (from, to) -> KERNELS.argbToBgr(pixels, data, from * width, to * width));
+            }
+            case TYPE_4BYTE_ABGR, TYPE_4BYTE_ABGR_PRE -> {
+                var data = direct(image, byte[].class);
+                forEachBand(height, width, (from, to) -> KERNELS.argbToAbgr(pixels, data, from * width, to * width));
+            }
+            default -> image.setRGB(0, 0, width, height, pixels, 0, width);
+        }
+
+        // Return image
+        return image;
+    }
+
+    // Resampling Passes
+    private static int[] halve(int[] source, int width, int height) {
+
+        // Average 2x2 blocks of premultiplied pixels
+        var targetWidth = width / 2;
+        var targetHeight = height / 2;
+        var target = new int[targetWidth * targetHeight];
+        forEachBand(targetHeight, targetWidth, (from, to) -> {
+            for (var y = from; y < to; y++) {
+                var top = 2 * y * width;
+                var bottom = top + width;
+                for (var x = 0; x < targetWidth; x++) {
+                    int p0 = source[top + 2 * x], p1 = source[top + 2 * x + 1], p2 = source[bottom + 2 * x], p3 = source[bottom + 2 * x + 1];
+                    var a = ((p0 >>> 24) + (p1 >>> 24) + (p2 >>> 24) + (p3 >>> 24) + 2) >> 2;
+                    var r = ((p0 >> 16 & 0xFF) + (p1 >> 16 & 0xFF) + (p2 >> 16 & 0xFF) + (p3 >> 16 & 0xFF) + 2) >> 2;
+                    var g = ((p0 >> 8 & 0xFF) + (p1 >> 8 & 0xFF) + (p2 >> 8 & 0xFF) + (p3 >> 8 & 0xFF) + 2) >> 2;
+                    var b = ((p0 & 0xFF) + (p1 & 0xFF) + (p2 & 0xFF) + (p3 & 0xFF) + 2) >> 2;
+                    target[y * targetWidth + x] = a << 24 | r << 16 | g << 8 | b;
+                }
+            }
+        });
+        return target;
+    }
+
+    private static int[] horizontal(int[] source, int width, int height, int targetWidth, Filter filter) {
+
+        // Resample every row
+        var kernel = kernel(filter, width, targetWidth);
+        var target = new int[targetWidth * height];
+        forEachBand(height, width, (from, to) -> {
+            for (var y = from; y < to; y++) KERNELS.convolve(source, y * width, kernel.starts(), kernel.weights(), kernel.taps(), target, y * targetWidth, 0, targetWidth);
+        });
+        return target;
+    }
+
+    private static int[] vertical(int[] source, int width, int height, int targetHeight, Filter filter) {
+
+        // Resample every column, walking whole rows for cache friendly access
+        var kernel = kernel(filter, height, targetHeight);
+        var target = new int[width * targetHeight];
+        forEachBand(targetHeight, width, (from, to) -> {
+            float[] a = new float[width], r = new float[width], g = new float[width], b = new float[width];
+            for (var y = from; y < to; y++) {
+
+                // Accumulate weighted source rows
+                Arrays.fill(a, 0f);
+                Arrays.fill(r, 0f);
+                Arrays.fill(g, 0f);
+                Arrays.fill(b, 0f);
+                for (var k = 0; k < kernel.taps(); k++) {
+                    var weight = kernel.weights()[k * targetHeight + y];
+                    if (weight != 0f) KERNELS.accumulate(source, (kernel.starts()[y] + k) * width, weight, a, r, g, b, 0, width);
+                }
+
+                // Store row
+                KERNELS.pack(a, r, g, b, target, y * width, 0, width);
+            }
+        });
+        return target;
+    }
+
+    // Resize Methods
+    static BufferedImage resize(BufferedImage image, int targetWidth, int targetHeight, int type, Filter filter) {
+
+        // Premultiplied ARGB pixels
+        var width = image.getWidth();
+        var height = image.getHeight();
+        var pixels = pixels(image);
+
+        // Large reductions are halved with a box filter first, the final pass keeps the quality
+        while (width / 2 >= targetWidth * HALVING_RATIO && height / 2 >= targetHeight * HALVING_RATIO) {
+            pixels = halve(pixels, width, height);
+            width /= 2;
+            height /= 2;
+        }
+
+        // Separable passes
+        if (targetWidth != width) pixels = horizontal(pixels, width, height, targetWidth, filter);
+        if (targetHeight != height) pixels = vertical(pixels, targetWidth, height, targetHeight, filter);
+
+        // Build result
+        return image(pixels, targetWidth, targetHeight, type);
+    }
+
+    // Getter
+    static boolean isVectorized() {
+        return KERNELS.isVectorized();
+    }
+}
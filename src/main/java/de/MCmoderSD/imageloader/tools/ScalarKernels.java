@@ -0,0 +1,115 @@
+package de.MCmoderSD.imageloader.tools;
+
+class ScalarKernels implements PixelKernels {
+
+    // Helper Methods
+    static int multiply(int color, int alpha) {
+
+        // Exact round(color * alpha / 255) without a division
+        var product = color * alpha + 128;
+        return (product + (product >> 8)) >> 8;
+    }
+
+    static int divide(int color, int alpha) {
+        return Math.min(255, (int) (color * 255f / alpha + 0.5f));
+    }
+
+    // Alpha Methods
+    @Override
+    public void premultiply(int[] pixels, int from, int to) {
+        for (var i = from; i < to; i++) {
+            var pixel = pixels[i];
+            var alpha = pixel >>> 24;
+            if (alpha == 255) continue;
+            pixels[i] = alpha << 24 | multiply(pixel >> 16 & 0xFF, alpha) << 16 | multiply(pixel >> 8 & 0xFF, alpha) << 8 | multiply(pixel & 0xFF, alpha);
+        }
+    }
+
+    @Override
+    public void unpremultiply(int[] pixels, int from, int to) {
+        for (var i = from; i < to; i++) {
+            var pixel = pixels[i];
+            var alpha = pixel >>> 24;
+            if (alpha == 255) continue;
+            pixels[i] = alpha == 0 ? 0 : alpha << 24 | divide(pixel >> 16 & 0xFF, alpha) << 16 | divide(pixel >> 8 & 0xFF, alpha) << 8 | divide(pixel & 0xFF, alpha);
+        }
+    }
+
+    // Conversion Methods
+    @Override
+    public void opaque(int[] source, int[] target, int from, int to) {
+        for (var i = from; i < to; i++) target[i] = 0xFF000000 | source[i];
+    }
+
+    @Override
+    public void bgrToArgb(byte[] source, int[] target, int from, int to) {
+        for (var i = from; i < to; i++) target[i] = 0xFF000000 | (source[3 * i + 2] & 0xFF) << 16 | (source[3 * i + 1] & 0xFF) << 8 | source[3 * i] & 0xFF;
+    }
+
+    @Override
+    public void argbToBgr(int[] source, byte[] target, int from, int to) {
+        for (var i = from; i < to; i++) {
+            var pixel = source[i];
+            target[3 * i] = (byte) pixel;
+            target[3 * i + 1] = (byte) (pixel >> 8);
+            target[3 * i + 2] = (byte) (pixel >> 16);
+        }
+    }
+
+    @Override
+    public void abgrToArgb(byte[] source, int[] target, int from, int to) {
+        for (var i = from; i < to; i++) target[i] = (source[4 * i] & 0xFF) << 24 | (source[4 * i + 3] & 0xFF) << 16 | (source[4 * i + 2] & 0xFF) << 8 | source[4 * i + 1] & 0xFF;
+    }
+
+    @Override
+    public void argbToAbgr(int[] source, byte[] target, int from, int to) {
+        for (var i = from; i < to; i++) {
+            var pixel = source[i];
+            target[4 * i] = (byte) (pixel >>> 24);
+            target[4 * i + 1] = (byte) pixel;
+            target[4 * i + 2] = (byte) (pixel >> 8);
+            target[4 * i + 3] = (byte) (pixel >> 16);
+        }
+    }
+
+    // Convolution Methods
+    @Override
+    public void convolve(int[] source, int sourceOffset, int[] starts, float[] weights, int taps, int[] target, int targetOffset, int from, int to) {
+        var length = starts.length;
+        for (var x = from; x < to; x++) {
+            float a = 0, r = 0, g = 0, b = 0;
+            var offset = sourceOffset + starts[x];
+            for (var k = 0; k < taps; k++) {
+                var weight = weights[k * length + x];
+                var pixel = source[offset + k];
+                a += weight * (pixel >>> 24);
+                r += weight * (pixel >> 16 & 0xFF);
+                g += weight * (pixel >> 8 & 0xFF);
+                b += weight * (pixel & 0xFF);
+            }
+            target[targetOffset + x] = PixelKernels.pack(a, r, g, b);
+        }
+    }
+
+    @Override
+    public void accumulate(int[] source, int offset, float weight, float[] a, float[] r, float[] g, float[] b, int from, int to) {
+        for (var x = from; x < to; x++) {
+            var pixel = source[offset + x];
+            a[x] += weight * (pixel >>> 24);
+            r[x] += weight * (pixel >> 16 & 0xFF);
+            g[x] += weight * (pixel >> 8 & 0xFF);
+            b[x] += weight * (pixel & 0xFF);
+        }
+    }
+
+    @Override
+    public void pack(float[] a, float[] r, float[] g, float[] b, int[] target, int offset, int from, int to) {
+        for (var x = from; x < to; x++) target[offset + x] = PixelKernels.pack(a[x], r[x], g[x], b[x]);
+    }
+
+    // Getter
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+}
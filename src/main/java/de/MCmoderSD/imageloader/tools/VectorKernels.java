@@ -0,0 +1,174 @@
+package de.MCmoderSD.imageloader.tools;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.*;
+
+class VectorKernels extends ScalarKernels {
+
+    // Constants
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = INTS.withLanes(byte.class);
+
+    // Byte lanes reinterpret as little-endian ints, so BGR triplets are spread to BGRx and packed back
+    private static final VectorShuffle<Byte> SPREAD = VectorShuffle.fromOp(BYTES, lane -> lane % 4 == 3 ? 0 : lane / 4 * 3 + lane % 4);
+    private static final VectorShuffle<Byte> PACK = VectorShuffle.fromOp(BYTES, lane -> lane < INTS.length() * 3 ? lane / 3 * 4 + lane % 3 : 0);
+
+    // Helper Methods
+    private static IntVector channel(IntVector pixels, int shift) {
+        return pixels.lanewise(LSHR, shift).and(0xFF);
+    }
+
+    private static FloatVector toFloat(IntVector vector) {
+        return (FloatVector) vector.convert(I2F, 0);
+    }
+
+    private static IntVector round(FloatVector vector) {
+        return ((IntVector) vector.add(0.5f).convert(F2I, 0)).max(0);
+    }
+
+    private static IntVector pack(IntVector a, IntVector r, IntVector g, IntVector b) {
+        return a.lanewise(LSHL, 24).or(r.lanewise(LSHL, 16)).or(g.lanewise(LSHL, 8)).or(b);
+    }
+
+    private static IntVector pack(FloatVector a, FloatVector r, FloatVector g, FloatVector b) {
+
+        // Premultiplied colors can never exceed alpha, negative lobes are clipped
+        var alpha = round(a).min(255);
+        return pack(alpha, round(r).min(alpha), round(g).min(alpha), round(b).min(alpha));
+    }
+
+    private static IntVector multiply(IntVector color, IntVector alpha) {
+        var product = color.mul(alpha).add(128);
+        return product.add(product.lanewise(LSHR, 8)).lanewise(LSHR, 8);
+    }
+
+    private static IntVector divide(IntVector color, FloatVector alpha) {
+        return ((IntVector) toFloat(color).mul(255f).div(alpha).add(0.5f).convert(F2I, 0)).min(255);
+    }
+
+    // Alpha Methods
+    @Override
+    public void premultiply(int[] pixels, int from, int to) {
+        var i = from;
+        for (var bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            var vector = IntVector.fromArray(INTS, pixels, i);
+            var alpha = vector.lanewise(LSHR, 24);
+            pack(alpha, multiply(channel(vector, 16), alpha), multiply(channel(vector, 8), alpha), multiply(channel(vector, 0), alpha)).intoArray(pixels, i);
+        }
+        super.premultiply(pixels, i, to);
+    }
+
+    @Override
+    public void unpremultiply(int[] pixels, int from, int to) {
+        var i = from;
+        for (var bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            var vector = IntVector.fromArray(INTS, pixels, i);
+            var alpha = vector.lanewise(LSHR, 24);
+            var divisor = toFloat(alpha);
+            var result = pack(alpha, divide(channel(vector, 16), divisor), divide(channel(vector, 8), divisor), divide(channel(vector, 0), divisor));
+
+            // Fully transparent pixels become zero
+            result.blend(0, alpha.eq(0)).intoArray(pixels, i);
+        }
+        super.unpremultiply(pixels, i, to);
+    }
+
+    // Conversion Methods
+    @Override
+    public void opaque(int[] source, int[] target, int from, int to) {
+        var i = from;
+        for (var bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) IntVector.fromArray(INTS, source, i).or(0xFF000000).intoArray(target, i);
+        super.opaque(source, target, i, to);
+    }
+
+    @Override
+    public void bgrToArgb(byte[] source, int[] target, int from, int to) {
+
+        // Every load reads a full vector of triplets, it must stay within the range
+        var i = from;
+        for (; 3 * i + BYTES.length() <= 3 * to; i += INTS.length()) ByteVector.fromArray(BYTES, source, 3 * i).rearrange(SPREAD).reinterpretAsInts().or(0xFF000000).intoArray(target, i);
+        super.bgrToArgb(source, target, i, to);
+    }
+
+    @Override
+    public void argbToBgr(int[] source, byte[] target, int from, int to) {
+
+        // Every store writes a full vector, the surplus lanes are overwritten by the next pixels and never leave the range
+        var i = from;
+        for (; 3 * i + BYTES.length() <= 3 * to; i += INTS.length()) IntVector.fromArray(INTS, source, i).reinterpretAsBytes().rearrange(PACK).intoArray(target, 3 * i);
+        super.argbToBgr(source, target, i, to);
+    }
+
+    @Override
+    public void abgrToArgb(byte[] source, int[] target, int from, int to) {
+
+        // ABGR bytes read as a little-endian int are RGBA, rotating moves alpha to the top
+        var i = from;
+        for (var bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) ByteVector.fromArray(BYTES, source, 4 * i).reinterpretAsInts().lanewise(ROR, 8).intoArray(target, i);
+        super.abgrToArgb(source, target, i, to);
+    }
+
+    @Override
+    public void argbToAbgr(int[] source, byte[] target, int from, int to) {
+        var i = from;
+        for (var bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) IntVector.fromArray(INTS, source, i).lanewise(ROL, 8).reinterpretAsBytes().intoArray(target, 4 * i);
+        super.argbToAbgr(source, target, i, to);
+    }
+
+    // Convolution Methods
+    @Override
+    public void convolve(int[] source, int sourceOffset, int[] starts, float[] weights, int taps, int[] target, int targetOffset, int from, int to) {
+        var length = starts.length;
+        var x = from;
+        for (var bound = from + INTS.loopBound(to - from); x < bound; x += INTS.length()) {
+
+            // One lane per target pixel, the source pixels of every tap are gathered
+            var a = FloatVector.zero(FLOATS);
+            var r = FloatVector.zero(FLOATS);
+            var g = FloatVector.zero(FLOATS);
+            var b = FloatVector.zero(FLOATS);
+            for (var k = 0; k < taps; k++) {
+                var weight = FloatVector.fromArray(FLOATS, weights, k * length + x);
+                var pixels = IntVector.fromArray(INTS, source, sourceOffset + k, starts, x);
+                a = a.add(toFloat(channel(pixels, 24)).mul(weight));
+                r = r.add(toFloat(channel(pixels, 16)).mul(weight));
+                g = g.add(toFloat(channel(pixels, 8)).mul(weight));
+                b = b.add(toFloat(channel(pixels, 0)).mul(weight));
+            }
+            pack(a, r, g, b).intoArray(target, targetOffset + x);
+        }
+        super.convolve(source, sourceOffset, starts, weights, taps, target, targetOffset, x, to);
+    }
+
+    @Override
+    public void accumulate(int[] source, int offset, float weight, float[] a, float[] r, float[] g, float[] b, int from, int to) {
+        var x = from;
+        for (var bound = from + FLOATS.loopBound(to - from); x < bound; x += FLOATS.length()) {
+            var pixels = IntVector.fromArray(INTS, source, offset + x);
+            FloatVector.fromArray(FLOATS, a, x).add(toFloat(channel(pixels, 24)).mul(weight)).intoArray(a, x);
+            FloatVector.fromArray(FLOATS, r, x).add(toFloat(channel(pixels, 16)).mul(weight)).intoArray(r, x);
+            FloatVector.fromArray(FLOATS, g, x).add(toFloat(channel(pixels, 8)).mul(weight)).intoArray(g, x);
+            FloatVector.fromArray(FLOATS, b, x).add(toFloat(channel(pixels, 0)).mul(weight)).intoArray(b, x);
+        }
+        super.accumulate(source, offset, weight, a, r, g, b, x, to);
+    }
+
+    @Override
+    public void pack(float[] a, float[] r, float[] g, float[] b, int[] target, int offset, int from, int to) {
+        var x = from;
+        for (var bound = from + FLOATS.loopBound(to - from); x < bound; x += FLOATS.length()) pack(FloatVector.fromArray(FLOATS, a, x), FloatVector.fromArray(FLOATS, r, x), FloatVector.fromArray(FLOATS, g, x), FloatVector.fromArray(FLOATS, b, x)).intoArray(target, offset + x);
+        super.pack(a, r, g, b, target, offset, x, to);
+    }
+
+    // Getter
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}
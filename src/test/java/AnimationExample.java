@@ -1,8 +1,8 @@
 import de.MCmoderSD.imageloader.core.AnimationLoader;
+import de.MCmoderSD.imageloader.objects.Animation;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
-import javax.swing.ImageIcon;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -27,7 +27,7 @@ void main() {
 }
 
 // Show image
-void showAnimation(ImageIcon animation, String title) {
+void showAnimation(Animation animation, String title) {
 
     // Create frame
     var frame = new JFrame(title);
@@ -35,7 +35,10 @@ void showAnimation(ImageIcon animation, String title) {
     frame.setLocationRelativeTo(null);
     frame.setSize(140, 140);
     frame.setResizable(false);
-    frame.setIconImage(animation.getImage());
+    frame.setIconImage(animation.getFrame(0).image());
+
+    // Start time of the animation
+    var start = System.nanoTime();
 
     // Create panel
     var panel = new JPanel() {
@@ -43,7 +46,7 @@ void showAnimation(ImageIcon animation, String title) {
         protected void paintComponent(Graphics graphics) {
             super.paintComponent(graphics);
             Graphics2D g = (Graphics2D) graphics;
-            g.drawImage(animation.getImage(), 0, 0, null);
+            g.drawImage(animation.frameAt(System.nanoTime() - start), 0, 0, null);
         }
     };
 
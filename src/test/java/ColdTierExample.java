@@ -0,0 +1,67 @@
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.objects.CachePolicy;
+import de.MCmoderSD.imageloader.tools.HeapMonitor;
+import de.MCmoderSD.imageloader.tools.ImageEncoder;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.IO.println;
+
+void main() throws Exception {
+
+    // Hot tier below the pressure floor, evicted images are compressed into the cold tier
+    var budget = 10L * 1024 * 1024;
+    var imageLoader = ImageLoader.getInstance();
+    imageLoader.setCachePolicy(CachePolicy.maxWeight(budget).withColdTier(64L * 1024 * 1024));
+
+    // Distinct 1 MiB images
+    var sources = new ArrayList<String>();
+    for (var i = 0; i < 24; i++) sources.add(ImageEncoder.toBase64(sample(i), Extension.PNG));
+
+    // A threshold below the current usage reports heap pressure after the next collection
+    var monitor = HeapMonitor.getInstance();
+    var pressure = new CountDownLatch(1);
+    Runnable listener = pressure::countDown;
+    monitor.addListener(listener);
+    try {
+        monitor.setThreshold(0.001);
+        for (var i = 0; i < 10 && pressure.getCount() > 0; i++) {
+            System.gc();
+            pressure.await(200, TimeUnit.MILLISECONDS);
+        }
+        check(pressure.getCount() == 0, "a collection above the threshold must report heap pressure");
+        println("Heap pressure reported");
+
+        // Relieving the heap must never grow the hot tier beyond the configured budget
+        for (var source : sources) {
+            imageLoader.loadBase64(source);
+            imageLoader.size();
+            check(imageLoader.getWeight() <= budget, "hot tier grew to " + imageLoader.getWeight() + " bytes under pressure");
+        }
+        println("Hot tier stayed within " + budget + " bytes, " + imageLoader.getColdSize() + " images were demoted");
+
+    } finally {
+        monitor.removeListener(listener);
+        monitor.setThreshold(HeapMonitor.DEFAULT_THRESHOLD);
+    }
+
+    println("\nThe cold tier behaved as expected.");
+}
+
+// Noise does not compress, so every image weighs its full raster
+BufferedImage sample(int seed) {
+    var random = new Random(seed);
+    var image = new BufferedImage(512, 512, BufferedImage.TYPE_INT_ARGB);
+    for (var y = 0; y < image.getHeight(); y++) for (var x = 0; x < image.getWidth(); x++) image.setRGB(x, y, random.nextInt());
+    return image;
+}
+
+// Fail loudly, the repository has no test framework
+void check(boolean condition, String message) {
+    if (!condition) throw new IllegalStateException(message);
+}
@@ -0,0 +1,104 @@
+import com.sun.net.httpserver.HttpServer;
+import de.MCmoderSD.imageloader.core.HttpFetcher;
+import de.MCmoderSD.imageloader.core.ImageLoader;
+import de.MCmoderSD.imageloader.enums.Extension;
+import de.MCmoderSD.imageloader.tools.ImageEncoder;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.IO.println;
+
+void main() throws Exception {
+
+    // Served image and its ETag, replaced to simulate a changed file
+    var body = new AtomicReference<>(sample(Color.RED));
+    var etag = new AtomicReference<>("\"v1\"");
+    var requests = new AtomicInteger();
+    var conditional = new AtomicInteger();
+
+    // Local server that answers conditional requests like a CDN would
+    var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/sample.png", exchange -> {
+        requests.incrementAndGet();
+        var match = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (match != null) conditional.incrementAndGet();
+        if (etag.get().equals(match)) {
+            exchange.sendResponseHeaders(304, -1);
+        } else {
+            var data = body.get();
+            exchange.getResponseHeaders().set("ETag", etag.get());
+            exchange.getResponseHeaders().set("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, data.length);
+            exchange.getResponseBody().write(data);
+        }
+        exchange.close();
+    });
+    server.start();
+
+    try {
+        var url = "http://localhost:" + server.getAddress().getPort() + "/sample.png";
+        var fetcher = HttpFetcher.getInstance();
+
+        // First request downloads the image and remembers its validator
+        println("Fetching " + url);
+        var first = fetcher.fetch(url);
+        check(!first.notModified() && first.data().length > 0, "first request must return the image");
+        check("\"v1\"".equals(first.validator().etag()), "first request must return the ETag");
+        println("200 with ETag " + first.validator().etag());
+
+        // Same validator, the server answers 304 without a body
+        var second = fetcher.fetch(url, first.validator());
+        check(second.notModified() && second.data() == null, "unchanged image must return 304");
+        check(second.validator() == first.validator(), "304 must keep the known validator");
+        println("304 Not Modified");
+
+        // Changed image, the old validator no longer matches
+        body.set(sample(Color.BLUE));
+        etag.set("\"v2\"");
+        var third = fetcher.fetch(url, first.validator());
+        check(!third.notModified() && third.data().length > 0, "changed image must return 200");
+        check("\"v2\"".equals(third.validator().etag()), "changed image must return the new ETag");
+        println("200 with ETag " + third.validator().etag());
+
+        // ImageLoader revalidates cached images on reload instead of downloading them again
+        var imageLoader = ImageLoader.getInstance();
+        var before = requests.get();
+        var image = imageLoader.loadURL(url);
+        check(imageLoader.reloadURL(url) == image, "unchanged reload must keep the cached image");
+        check(requests.get() - before == 2 && conditional.get() == 3, "reload must send one conditional request");
+        println("reloadURL kept the cached image after 304");
+
+        // A changed image replaces the cached one
+        body.set(sample(Color.GREEN));
+        etag.set("\"v3\"");
+        var reloaded = imageLoader.reloadURL(url);
+        check(reloaded != image && reloaded.getRGB(0, 0) == Color.GREEN.getRGB(), "changed reload must replace the cached image");
+        check(imageLoader.loadURL(url) == reloaded, "replaced image must be cached");
+        println("reloadURL replaced the cached image after 200");
+
+    } finally {
+        server.stop(0);
+    }
+
+    println("\nAll conditional requests behaved as expected.");
+}
+
+// Encode a small single color image
+byte[] sample(Color color) {
+    var image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+    var g = image.createGraphics();
+    g.setColor(color);
+    g.fillRect(0, 0, image.getWidth(), image.getHeight());
+    g.dispose();
+    return ImageEncoder.encode(image, Extension.PNG);
+}
+
+// Fail loudly, the repository has no test framework
+void check(boolean condition, String message) {
+    if (!condition) throw new IllegalStateException(message);
+}